@@ -0,0 +1,117 @@
+package algorithms.graph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/** Utility class that splits a range of indices into subranges and
+ processes them in parallel on a ForkJoinPool. It is shared by the
+ parallel graph algorithms, which all work on ranges of vertex or
+ edge indices.
+ */
+public final class ParallelRange {
+
+    /** Processes the indices from (inclusive) to to (exclusive). */
+    @FunctionalInterface
+    public interface Body {
+        void apply(int from, int to);
+    }
+
+    /** Computes a partial result for the indices from (inclusive) to
+     to (exclusive).
+     */
+    @FunctionalInterface
+    public interface Mapper<T> {
+        T apply(int from, int to);
+    }
+
+    /** The smallest subrange worth handing to another thread */
+    private static final int MIN_GRAIN = 256;
+
+    private ParallelRange() {
+    }
+
+    /** Apply a body to every index in a range in parallel.
+     @param pool The pool that runs the subranges
+     @param from The first index
+     @param to One past the last index
+     @param body The work for a subrange
+     */
+    public static void forEach(ForkJoinPool pool, int from, int to, Body body) {
+        forEach(pool, from, to, MIN_GRAIN, body);
+    }
+
+    /** Apply a body to every index in a range in parallel, splitting the
+     range into subranges of at least minGrain indices. A small minGrain
+     suits indices that each stand for a lot of work, such as the tiles
+     of a matrix.
+     @param pool The pool that runs the subranges
+     @param from The first index
+     @param to One past the last index
+     @param minGrain The smallest subrange handed to another thread
+     @param body The work for a subrange
+     */
+    public static void forEach(ForkJoinPool pool, int from, int to, int minGrain, Body body) {
+        int grain = Math.max(minGrain, (to - from) / (4 * pool.getParallelism()));
+        Mapper<Void> mapper = (lo, hi) -> {
+            body.apply(lo, hi);
+            return null;
+        };
+        if (to - from <= grain) {
+            mapper.apply(from, to);
+        } else {
+            pool.invoke(new RangeTask<>(from, to, grain, mapper, (left, right) -> null));
+        }
+    }
+
+    /** Compute a result for every subrange of a range in parallel and
+     combine the results in index order.
+     @param pool The pool that runs the subranges
+     @param from The first index
+     @param to One past the last index
+     @param mapper The work for a subrange
+     @param combiner Combines the results of two adjacent subranges
+     @return The combined result, or the result of the whole range if it
+     is too small to split
+     */
+    public static <T> T reduce(ForkJoinPool pool, int from, int to,
+                               Mapper<T> mapper, BinaryOperator<T> combiner) {
+        int grain = Math.max(MIN_GRAIN, (to - from) / (4 * pool.getParallelism()));
+        if (to - from <= grain) {
+            return mapper.apply(from, to);
+        }
+        return pool.invoke(new RangeTask<>(from, to, grain, mapper, combiner));
+    }
+
+    /** Recursively halves its range until it is no larger than the grain. */
+    private static class RangeTask<T> extends RecursiveTask<T> {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final Mapper<T> mapper;
+        private final BinaryOperator<T> combiner;
+
+        private RangeTask(int from, int to, int grain, Mapper<T> mapper,
+                          BinaryOperator<T> combiner) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.mapper = mapper;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from <= grain) {
+                return mapper.apply(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask<T> left = new RangeTask<>(from, middle, grain, mapper, combiner);
+            RangeTask<T> right = new RangeTask<>(middle, to, grain, mapper, combiner);
+            left.fork();
+            T rightResult = right.compute();
+            return combiner.apply(left.join(), rightResult);
+        }
+    }
+}
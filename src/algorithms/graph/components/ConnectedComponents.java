@@ -0,0 +1,199 @@
+package algorithms.graph.components;
+
+import algorithms.graph.ParallelRange;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+import datastructures.graph.IntDoubleConsumer;
+import datastructures.setmap.ConcurrentDisjointSet;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/** Finds the weakly connected components of a graph with a parallel
+ union‐find and the strongly connected components of a directed graph
+ with an iterative version of Tarjan's algorithm, so that neither is
+ limited by the depth of the call stack.
+ */
+public class ConnectedComponents {
+
+    /** The components of a graph. */
+    public static class Result {
+        private final int[] componentId;
+        private final int[] sizes;
+
+        private Result(int[] componentId, int[] sizes) {
+            this.componentId = componentId;
+            this.sizes = sizes;
+        }
+
+        /** Return the component of every vertex.
+         @return The array of component numbers, from 0 to
+         getNumComponents() ‐ 1
+         */
+        public int[] getComponentId() {
+            return componentId;
+        }
+
+        /** @return The number of components */
+        public int getNumComponents() {
+            return sizes.length;
+        }
+
+        /** Return the number of vertices in every component.
+         @return The array of sizes, indexed by component number
+         */
+        public int[] getSizes() {
+            return sizes;
+        }
+
+        /** Return how many components have sizes in each power‐of‐two
+         range. Entry i counts the components with at least 2^i and
+         fewer than 2^(i + 1) vertices, so the array stays short even
+         when one component holds most of the graph.
+         @return The histogram of component sizes
+         */
+        public long[] getSizeHistogram() {
+            long[] histogram = new long[32];
+            int highest = 0;
+            for (int size : sizes) {
+                int bucket = 31 - Integer.numberOfLeadingZeros(size);
+                histogram[bucket]++;
+                highest = Math.max(highest, bucket);
+            }
+            return Arrays.copyOf(histogram, highest + 1);
+        }
+    }
+
+    /** Find the weakly connected components: the components of the graph
+     when every edge is taken as undirected. The edges are merged into a
+     ConcurrentDisjointSet in parallel. Components are numbered in order
+     of their smallest vertex.
+     @param graph The graph
+     @param pool The pool that processes the vertices
+     @return The components
+     */
+    public static Result weaklyConnected(Graph graph, ForkJoinPool pool) {
+        int numV = graph.getNumV();
+        ConcurrentDisjointSet sets = new ConcurrentDisjointSet(numV);
+        ParallelRange.forEach(pool, 0, numV, (from, to) -> {
+            Linker linker = new Linker(sets);
+            for (int v = from; v < to; v++) {
+                linker.source = v;
+                graph.forEachNeighbor(v, linker);
+            }
+        });
+        int[] componentId = new int[numV];
+        ParallelRange.forEach(pool, 0, numV, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                componentId[v] = sets.find(v);
+            }
+        });
+        // Each root is the smallest vertex of its set, so it is numbered
+        // before any other member is relabeled.
+        int[] sizes = new int[sets.getNumSets()];
+        int count = 0;
+        for (int v = 0; v < numV; v++) {
+            int root = componentId[v];
+            if (root == v) {
+                componentId[v] = count++;
+            } else {
+                componentId[v] = componentId[root];
+            }
+            sizes[componentId[v]]++;
+        }
+        return new Result(componentId, sizes);
+    }
+
+    /** Find the strongly connected components with Tarjan's algorithm,
+     using an explicit stack of vertices and edge positions instead of
+     recursion. Components are numbered in the order Tarjan's algorithm
+     completes them, which is a reverse topological order of the
+     condensed graph: every edge between components leads from a higher
+     number to a lower one. A graph that is not a CsrGraph is first
+     copied into one.
+     @param graph The graph
+     @return The components
+     */
+    public static Result stronglyConnected(Graph graph) {
+        CsrGraph csr = CsrGraph.copyOf(graph);
+        int numV = csr.getNumV();
+        int[] index = new int[numV];
+        int[] low = new int[numV];
+        int[] nextEdge = new int[numV];
+        int[] componentId = new int[numV];
+        Arrays.fill(index, -1);
+        // Vertices that are visited but not yet in a component.
+        int[] stack = new int[numV];
+        int stackSize = 0;
+        boolean[] onStack = new boolean[numV];
+        // The depth‐first search path, replacing recursive calls.
+        int[] path = new int[numV];
+        int pathSize = 0;
+        int[] sizes = new int[16];
+        int count = 0;
+        int counter = 0;
+
+        for (int root = 0; root < numV; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            index[root] = low[root] = counter++;
+            nextEdge[root] = csr.edgeStart(root);
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            path[pathSize++] = root;
+            while (pathSize > 0) {
+                int v = path[pathSize - 1];
+                if (nextEdge[v] < csr.edgeEnd(v)) {
+                    int w = csr.getTarget(nextEdge[v]++);
+                    if (index[w] < 0) {
+                        // Descend to w.
+                        index[w] = low[w] = counter++;
+                        nextEdge[w] = csr.edgeStart(w);
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        path[pathSize++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                // All edges of v are done: return from v.
+                pathSize--;
+                if (low[v] == index[v]) {
+                    if (count == sizes.length) {
+                        sizes = Arrays.copyOf(sizes, count * 2);
+                    }
+                    int w;
+                    do {
+                        w = stack[--stackSize];
+                        onStack[w] = false;
+                        componentId[w] = count;
+                        sizes[count]++;
+                    } while (w != v);
+                    count++;
+                }
+                if (pathSize > 0) {
+                    int parent = path[pathSize - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+            }
+        }
+        return new Result(componentId, Arrays.copyOf(sizes, count));
+    }
+
+    /** Merges the source vertex with each of its neighbors. */
+    private static class Linker implements IntDoubleConsumer {
+        private final ConcurrentDisjointSet sets;
+        private int source;
+
+        private Linker(ConcurrentDisjointSet sets) {
+            this.sets = sets;
+        }
+
+        @Override
+        public void accept(int dest, double weight) {
+            sets.union(source, dest);
+        }
+    }
+}
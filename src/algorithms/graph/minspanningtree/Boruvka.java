@@ -0,0 +1,114 @@
+package algorithms.graph.minspanningtree;
+
+import algorithms.graph.ParallelRange;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Edge;
+import datastructures.graph.Graph;
+import datastructures.setmap.DisjointSet;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/** Borůvka's minimum spanning tree algorithm. In every round each
+ component picks the lightest edge that leaves it, and all picked edges
+ are added at once, so the number of components at least halves per
+ round. Finding the lightest edges is a scan over all edges that runs in
+ parallel; only the merging of the few picked edges is sequential.
+ Edges are compared by weight and then by their end points, so ties
+ cannot create a cycle.
+ */
+public class Boruvka {
+
+    /** Borůvka's Minimum Spanning Tree algorithm.
+     @param graph The weighted graph to be searched
+     @param pool The pool that scans the edges
+     @return An ArrayList of edges that forms a minimum spanning forest,
+     which is the MST if the graph is connected
+     */
+    public static ArrayList<Edge> boruvkasAlgorithm(Graph graph, ForkJoinPool pool) {
+        CsrGraph csr = CsrGraph.copyOf(graph);
+        int numV = csr.getNumV();
+        int[] sources = new int[csr.getNumEdges()];
+        for (int u = 0; u < numV; u++) {
+            for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                sources[e] = u;
+            }
+        }
+
+        ArrayList<Edge> result = new ArrayList<>();
+        DisjointSet components = new DisjointSet(numV);
+        int[] component = new int[numV];
+        for (int v = 0; v < numV; v++) {
+            component[v] = v;
+        }
+        AtomicIntegerArray cheapest = new AtomicIntegerArray(numV);
+        boolean merged = true;
+        while (merged && components.getNumSets() > 1) {
+            for (int v = 0; v < numV; v++) {
+                cheapest.set(v, -1);
+            }
+            // Find the lightest edge leaving each component.
+            ParallelRange.forEach(pool, 0, numV, (from, to) -> {
+                for (int u = from; u < to; u++) {
+                    for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                        int v = csr.getTarget(e);
+                        if (component[u] != component[v]) {
+                            offer(csr, sources, cheapest, component[u], e);
+                            // Treat a directed edge as undirected.
+                            offer(csr, sources, cheapest, component[v], e);
+                        }
+                    }
+                }
+            });
+            // Add the picked edges.
+            merged = false;
+            for (int c = 0; c < numV; c++) {
+                int e = cheapest.get(c);
+                if (e >= 0 && components.union(sources[e], csr.getTarget(e))) {
+                    result.add(new Edge(sources[e], csr.getTarget(e), csr.getWeight(e)));
+                    merged = true;
+                }
+            }
+            for (int v = 0; v < numV; v++) {
+                component[v] = components.find(v);
+            }
+        }
+        return result;
+    }
+
+    /** Record an edge for a component if it is lighter than its current pick.
+     @param csr The graph
+     @param sources The source of each edge
+     @param cheapest The picked edge of each component, or ‐1
+     @param c The component
+     @param e The edge
+     */
+    private static void offer(CsrGraph csr, int[] sources, AtomicIntegerArray cheapest,
+                              int c, int e) {
+        int current = cheapest.get(c);
+        while (current < 0 || lighter(csr, sources, e, current)) {
+            if (cheapest.compareAndSet(c, current, e)) {
+                return;
+            }
+            current = cheapest.get(c);
+        }
+    }
+
+    /** Compare two edges by weight, then by their smaller and larger end
+     points, which orders the two directions of an undirected edge alike.
+     @return true if edge a comes strictly before edge b
+     */
+    private static boolean lighter(CsrGraph csr, int[] sources, int a, int b) {
+        int compare = Double.compare(csr.getWeight(a), csr.getWeight(b));
+        if (compare != 0) {
+            return compare < 0;
+        }
+        int lowA = Math.min(sources[a], csr.getTarget(a));
+        int lowB = Math.min(sources[b], csr.getTarget(b));
+        if (lowA != lowB) {
+            return lowA < lowB;
+        }
+        return Math.max(sources[a], csr.getTarget(a)) < Math.max(sources[b], csr.getTarget(b));
+    }
+}
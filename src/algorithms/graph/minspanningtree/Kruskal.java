@@ -0,0 +1,61 @@
+package algorithms.graph.minspanningtree;
+
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Edge;
+import datastructures.graph.Graph;
+import datastructures.setmap.DisjointSet;
+
+import java.util.*;
+
+/** Kruskal's minimum spanning tree algorithm. The edges are sorted by
+ weight in parallel and then added lightest first unless they would
+ close a cycle, which a disjoint‐set structure detects.
+ */
+public class Kruskal {
+
+    /** Kruskal's Minimum Spanning Tree algorithm.
+     @param graph The weighted graph to be searched
+     @return An ArrayList of edges that forms a minimum spanning forest,
+     which is the MST if the graph is connected
+     */
+    public static ArrayList<Edge> kruskalsAlgorithm(Graph graph) {
+        CsrGraph csr = CsrGraph.copyOf(graph);
+        int numV = csr.getNumV();
+
+        // An undirected edge is stored in both directions; keep one copy.
+        int count = 0;
+        for (int u = 0; u < numV; u++) {
+            for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                if (keep(csr, u, csr.getTarget(e))) {
+                    count++;
+                }
+            }
+        }
+        Edge[] edges = new Edge[count];
+        count = 0;
+        for (int u = 0; u < numV; u++) {
+            for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                if (keep(csr, u, csr.getTarget(e))) {
+                    edges[count++] = new Edge(u, csr.getTarget(e), csr.getWeight(e));
+                }
+            }
+        }
+        Arrays.parallelSort(edges, Comparator.comparingDouble(Edge::getWeight));
+
+        ArrayList<Edge> result = new ArrayList<>();
+        DisjointSet components = new DisjointSet(numV);
+        for (Edge edge : edges) {
+            if (components.union(edge.getSource(), edge.getDest())) {
+                result.add(edge);
+                if (result.size() == numV - 1) {
+                    break; // The tree is complete.
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean keep(CsrGraph csr, int source, int dest) {
+        return source != dest && (csr.isDirected() || source < dest);
+    }
+}
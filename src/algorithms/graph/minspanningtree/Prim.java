@@ -2,58 +2,132 @@ package algorithms.graph.minspanningtree;
 
 import datastructures.graph.Edge;
 import datastructures.graph.Graph;
+import datastructures.graph.IntDoubleConsumer;
+import datastructures.heap.IndexedMinHeap;
+import datastructures.list.IntArrayList;
 
 import java.util.*;
 
+/** Prim's minimum spanning tree algorithm. The vertices of V–S are kept
+ in an indexed min‐heap keyed by the weight of their lightest edge into
+ S, so each vertex has at most one heap entry and a lighter edge is a
+ decrease‐key. This takes O(E log V) time and O(V) extra space.
+ */
 public class Prim {
 
     /** Prim's Minimum Spanning Tree algorithm.
      @param graph The weighted graph to be searched
      @param start The start vertex
-     @return An ArrayList of edges that forms the MST
+     @return An ArrayList of edges that forms the MST of the component
+     containing start, in the order the edges were chosen
      */
     public static ArrayList<Edge> primsAlgorithm(Graph graph, int start) {
-        ArrayList<Edge> result = new ArrayList<>();
         int numV = graph.getNumV();
+        int[] parent = new int[numV];
+        double[] key = new double[numV];
+        Tree tree = new Tree(numV, parent, key);
+        tree.grow(graph, start);
+        return tree.edges(1);
+    }
 
-        // Use a HashSet to represent V–S.
-        Set<Integer> vMinusS = new HashSet<>(numV);
-        // Declare the priority queue.
-        Queue<Edge> pQ = new PriorityQueue<>(numV, (e1, e2) -> Double.compare(e1.getWeight(), e2.getWeight()));
-
-        // Initialize V–S.
-        for (int i = 0; i < numV; i++) {
-            if (i != start) {
-                vMinusS.add(i);
+    /** Prim's algorithm applied to every component of the graph, starting
+     a new tree at each vertex not yet reached in increasing order.
+     @post parent[v] is the vertex that connects v to its tree and key[v]
+     the weight of that edge; for the root of each tree parent is ‐1 and
+     key is 0.
+     @param graph The weighted graph to be searched
+     @param parent Output array to contain the parent of each vertex
+     @param key Output array to contain the weight of the edge to the parent
+     */
+    public static void primsAlgorithm(Graph graph, int[] parent, double[] key) {
+        int numV = graph.getNumV();
+        Tree tree = new Tree(numV, parent, key);
+        for (int v = 0; v < numV; v++) {
+            if (!tree.inS[v]) {
+                tree.grow(graph, v);
             }
         }
-        int current = start;
-        // Main loop
-        while (!vMinusS.isEmpty()) {
-            // Update priority queue.
-            Iterator<Edge> iter = graph.edgeIterator(current);
-            while (iter.hasNext()) {
-                Edge edge = iter.next();
-                int dest = edge.getDest();
-                if (vMinusS.contains(dest)) {
-                    pQ.add(edge);
-                }
+    }
+
+    /** Compute a minimum spanning forest, which is a minimum spanning
+     tree if the graph is connected.
+     @param graph The weighted graph to be searched
+     @return An ArrayList of the edges of the forest
+     */
+    public static ArrayList<Edge> minimumSpanningForest(Graph graph) {
+        int numV = graph.getNumV();
+        int[] parent = new int[numV];
+        double[] key = new double[numV];
+        primsAlgorithm(graph, parent, key);
+        ArrayList<Edge> result = new ArrayList<>();
+        for (int v = 0; v < numV; v++) {
+            if (parent[v] >= 0) {
+                result.add(new Edge(parent[v], v, key[v]));
             }
-            // Find the shortest edge whose source is in S and
-            // destination is in V–S.
-            int dest = -1;
-            Edge edge = null;
-            do {
-                edge = pQ.remove();
-                dest = edge.getDest();
-            } while(!vMinusS.contains(dest));
-            // Take dest out of vMinusS.
-            vMinusS.remove(dest);
-            // Add edge to result.
-            result.add(edge);
-            // Make this the current vertex.
-            current = dest;
         }
         return result;
     }
+
+    /** The state shared by the trees of one run. */
+    private static class Tree implements IntDoubleConsumer {
+        private final int[] parent;
+        private final double[] key;
+        /** Marks the vertices in S */
+        private final boolean[] inS;
+        /** The vertices of V–S adjacent to S */
+        private final IndexedMinHeap pQ;
+        /** The vertices in the order they were added to S */
+        private final IntArrayList order;
+        /** The vertex whose edges are being examined */
+        private int current;
+
+        private Tree(int numV, int[] parent, double[] key) {
+            this.parent = parent;
+            this.key = key;
+            inS = new boolean[numV];
+            pQ = new IndexedMinHeap(numV);
+            order = new IntArrayList(numV);
+            Arrays.fill(parent, -1);
+            Arrays.fill(key, Double.POSITIVE_INFINITY);
+        }
+
+        /** Grow a tree from root until no edge leaves it.
+         @param graph The graph
+         @param root The first vertex of the tree
+         */
+        private void grow(Graph graph, int root) {
+            key[root] = 0;
+            pQ.add(root, 0);
+            while (!pQ.isEmpty()) {
+                // Take the vertex with the lightest edge into S.
+                current = pQ.remove();
+                inS[current] = true;
+                order.add(current);
+                // Update the keys of its neighbors in V–S.
+                graph.forEachNeighbor(current, this);
+            }
+        }
+
+        @Override
+        public void accept(int dest, double weight) {
+            if (!inS[dest] && weight < key[dest]) {
+                key[dest] = weight;
+                parent[dest] = current;
+                pQ.addOrDecreaseKey(dest, weight);
+            }
+        }
+
+        /** Return the tree edges in the order their vertices joined S.
+         @param from The first position of order to use
+         @return The edges
+         */
+        private ArrayList<Edge> edges(int from) {
+            ArrayList<Edge> result = new ArrayList<>();
+            for (int i = from; i < order.size(); i++) {
+                int v = order.get(i);
+                result.add(new Edge(parent[v], v, key[v]));
+            }
+            return result;
+        }
+    }
 }
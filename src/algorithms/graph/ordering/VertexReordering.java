@@ -0,0 +1,341 @@
+package algorithms.graph.ordering;
+
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+
+import java.util.Arrays;
+
+/** Computes vertex permutations that improve memory locality and relabels
+ graphs with them. Traversals of a relabeled graph touch neighbors whose
+ numbers, and therefore array positions, are close to each other.
+
+ A permutation is an array newId in which newId[v] is the new number of
+ the original vertex v. Results computed on the relabeled graph, such as
+ parent or dist arrays, are translated back with mapVerticesBack and
+ mapValuesBack. For a directed graph the orderings treat every edge as
+ undirected.
+ */
+public class VertexReordering {
+
+    /** Compute the reverse Cuthill‐McKee ordering, which numbers the
+     vertices breadth‐first from a pseudo‐peripheral vertex of each
+     component, visiting the neighbors of a vertex in order of increasing
+     degree, and then reverses the numbering. It keeps the numbers of
+     adjacent vertices close, which suits meshes and road networks.
+     @param graph The graph
+     @return The permutation newId
+     */
+    public static int[] reverseCuthillMcKee(Graph graph) {
+        Adjacency adjacency = new Adjacency(graph);
+        int numV = graph.getNumV();
+        int[] order = new int[numV];
+        boolean[] visited = new boolean[numV];
+        int[] level = new int[numV];
+        Arrays.fill(level, -1);
+        int count = 0;
+        // Components are started from their vertex of smallest degree.
+        for (int candidate : adjacency.byDegree()) {
+            if (visited[candidate]) {
+                continue;
+            }
+            int start = pseudoPeripheral(adjacency, candidate, level);
+            count = cuthillMcKee(adjacency, start, visited, order, count);
+        }
+        int[] newId = new int[numV];
+        for (int i = 0; i < numV; i++) {
+            newId[order[i]] = numV - 1 - i;
+        }
+        return newId;
+    }
+
+    /** Compute an ordering by decreasing degree, so that the vertices
+     with the most edges share the first cache lines. Vertices of equal
+     degree keep their relative order.
+     @param graph The graph
+     @return The permutation newId
+     */
+    public static int[] degreeOrder(Graph graph) {
+        Adjacency adjacency = new Adjacency(graph);
+        int[] ascending = adjacency.byDegree();
+        int numV = graph.getNumV();
+        // Walk groups of equal degree from the highest degree down.
+        int[] newId = new int[numV];
+        int next = 0;
+        int end = numV;
+        while (end > 0) {
+            int begin = end - 1;
+            int degree = adjacency.degree(ascending[begin]);
+            while (begin > 0 && adjacency.degree(ascending[begin - 1]) == degree) {
+                begin--;
+            }
+            for (int i = begin; i < end; i++) {
+                newId[ascending[i]] = next++;
+            }
+            end = begin;
+        }
+        return newId;
+    }
+
+    /** Compute the order in which a breadth‐first search from a start
+     vertex reaches the vertices. Vertices it does not reach are searched
+     from in turn, smallest number first.
+     @param graph The graph
+     @param start The first vertex
+     @return The permutation newId
+     */
+    public static int[] bfsOrder(Graph graph, int start) {
+        Adjacency adjacency = new Adjacency(graph);
+        int numV = graph.getNumV();
+        int[] newId = new int[numV];
+        Arrays.fill(newId, -1);
+        int count = search(adjacency, start, newId, 0);
+        for (int v = 0; v < numV; v++) {
+            if (newId[v] < 0) {
+                count = search(adjacency, v, newId, count);
+            }
+        }
+        return newId;
+    }
+
+    /** Build a copy of a graph in which every vertex v is renamed
+     newId[v]. The copy is a CsrGraph, so the neighbors of a vertex are
+     also stored in ascending order of their new numbers.
+     @param graph The graph
+     @param newId The permutation
+     @return The relabeled graph
+     @throws IllegalArgumentException if newId is not a permutation of
+     the vertices
+     */
+    public static CsrGraph relabel(Graph graph, int[] newId) {
+        int numV = graph.getNumV();
+        if (newId.length != numV) {
+            throw new IllegalArgumentException("Permutation has " + newId.length
+                    + " entries for " + numV + " vertices");
+        }
+        inverse(newId);
+        CsrGraph.Builder builder = new CsrGraph.Builder(numV, graph.isDirected());
+        for (int v = 0; v < numV; v++) {
+            final int source = newId[v];
+            // The reverse of an undirected edge is already stored.
+            graph.forEachNeighbor(v, (dest, weight) -> builder.addArc(source, newId[dest], weight));
+        }
+        return builder.build();
+    }
+
+    /** Return the inverse of a permutation.
+     @param newId The permutation
+     @return The array oldId in which oldId[newId[v]] == v
+     @throws IllegalArgumentException if newId is not a permutation
+     */
+    public static int[] inverse(int[] newId) {
+        int[] oldId = new int[newId.length];
+        Arrays.fill(oldId, -1);
+        for (int v = 0; v < newId.length; v++) {
+            int id = newId[v];
+            if (id < 0 || id >= newId.length || oldId[id] >= 0) {
+                throw new IllegalArgumentException("Not a permutation: " + v + " -> " + id);
+            }
+            oldId[id] = v;
+        }
+        return oldId;
+    }
+
+    /** Translate an array that is indexed by relabeled vertices and holds
+     relabeled vertices, such as a parent or pred array, back to the
+     original numbering. Negative entries mark missing vertices and are
+     copied unchanged.
+     @param vertices The array computed on the relabeled graph
+     @param newId The permutation used to relabel the graph
+     @return The array for the original graph
+     */
+    public static int[] mapVerticesBack(int[] vertices, int[] newId) {
+        int[] oldId = inverse(newId);
+        int[] result = new int[newId.length];
+        for (int v = 0; v < newId.length; v++) {
+            int value = vertices[newId[v]];
+            result[v] = value < 0 ? value : oldId[value];
+        }
+        return result;
+    }
+
+    /** Translate an array of per‐vertex values, such as dist, computed on
+     the relabeled graph back to the original numbering.
+     @param values The array computed on the relabeled graph
+     @param newId The permutation used to relabel the graph
+     @return The array for the original graph
+     */
+    public static double[] mapValuesBack(double[] values, int[] newId) {
+        double[] result = new double[newId.length];
+        for (int v = 0; v < newId.length; v++) {
+            result[v] = values[newId[v]];
+        }
+        return result;
+    }
+
+    /** Number the vertices that a breadth‐first search from a vertex
+     reaches, in the order they are reached.
+     @param adjacency The undirected adjacency
+     @param start The start vertex
+     @param newId The numbers given so far; ‐1 for vertices not numbered
+     @param count The number of vertices numbered so far
+     @return The new number of vertices numbered
+     */
+    private static int search(Adjacency adjacency, int start, int[] newId, int count) {
+        int[] queue = adjacency.queue;
+        int head = 0;
+        int tail = 0;
+        newId[start] = count++;
+        queue[tail++] = start;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int k = 0; k < adjacency.degree(u); k++) {
+                int v = adjacency.neighbor(u, k);
+                if (newId[v] < 0) {
+                    newId[v] = count++;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Find a vertex of large eccentricity in the component of a vertex
+     (George and Liu). Starting from the given vertex, repeatedly move to
+     the vertex of smallest degree in the last breadth‐first level while
+     that makes the search deeper.
+     @param adjacency The undirected adjacency
+     @param start A vertex of the component
+     @param level Scratch space of one entry per vertex
+     @return The pseudo‐peripheral vertex
+     */
+    private static int pseudoPeripheral(Adjacency adjacency, int start, int[] level) {
+        int root = start;
+        int depth = -1;
+        while (true) {
+            int[] result = lastLevel(adjacency, root, level);
+            if (result[1] <= depth) {
+                return root;
+            }
+            depth = result[1];
+            if (result[0] == root) {
+                return root;
+            }
+            root = result[0];
+        }
+    }
+
+    /** Search breadth‐first from a vertex.
+     @return The vertex of smallest degree in the deepest level, and the
+     depth of that level
+     */
+    private static int[] lastLevel(Adjacency adjacency, int root, int[] level) {
+        int[] queue = adjacency.queue;
+        int tail = 0;
+        level[root] = 0;
+        queue[tail++] = root;
+        int head = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int k = 0; k < adjacency.degree(u); k++) {
+                int v = adjacency.neighbor(u, k);
+                if (level[v] < 0) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        int depth = level[queue[tail - 1]];
+        int best = queue[tail - 1];
+        for (int i = tail - 1; i >= 0 && level[queue[i]] == depth; i--) {
+            if (adjacency.degree(queue[i]) < adjacency.degree(best)) {
+                best = queue[i];
+            }
+        }
+        // Leave the scratch array ready for the next search.
+        for (int i = 0; i < tail; i++) {
+            level[queue[i]] = -1;
+        }
+        return new int[]{best, depth};
+    }
+
+    /** Number the component of a start vertex in Cuthill‐McKee order.
+     @param adjacency The undirected adjacency
+     @param start The start vertex
+     @param visited The vertices that are already numbered
+     @param order Receives the vertices in Cuthill‐McKee order
+     @param count The number of vertices already in order
+     @return The new number of vertices in order
+     */
+    private static int cuthillMcKee(Adjacency adjacency, int start, boolean[] visited,
+                                    int[] order, int count) {
+        long[] keys = adjacency.keys;
+        int head = count;
+        visited[start] = true;
+        order[count++] = start;
+        while (head < count) {
+            int u = order[head++];
+            int found = 0;
+            for (int k = 0; k < adjacency.degree(u); k++) {
+                int v = adjacency.neighbor(u, k);
+                if (!visited[v]) {
+                    visited[v] = true;
+                    keys[found++] = ((long) adjacency.degree(v) << 32) | v;
+                }
+            }
+            // Queue the new neighbors by increasing degree.
+            Arrays.sort(keys, 0, found);
+            for (int i = 0; i < found; i++) {
+                order[count++] = (int) keys[i];
+            }
+        }
+        return count;
+    }
+
+    /** The undirected view of a graph: the out‐edges followed by the
+     in‐edges of each vertex, plus scratch space for the orderings. */
+    private static class Adjacency {
+        private final CsrGraph out;
+        private final CsrGraph in;
+        private final int[] queue;
+        private final long[] keys;
+
+        private Adjacency(Graph graph) {
+            out = CsrGraph.copyOf(graph);
+            in = graph.isDirected() ? out.transpose() : null;
+            int numV = graph.getNumV();
+            queue = new int[numV];
+            int maxDegree = 0;
+            for (int v = 0; v < numV; v++) {
+                maxDegree = Math.max(maxDegree, degree(v));
+            }
+            keys = new long[maxDegree];
+        }
+
+        private int degree(int v) {
+            return in == null ? out.getDegree(v) : out.getDegree(v) + in.getDegree(v);
+        }
+
+        private int neighbor(int v, int k) {
+            int outDegree = out.getDegree(v);
+            return k < outDegree ? out.getTarget(out.edgeStart(v) + k)
+                    : in.getTarget(in.edgeStart(v) + k - outDegree);
+        }
+
+        /** Return the vertices stably sorted by increasing degree. */
+        private int[] byDegree() {
+            int numV = out.getNumV();
+            int[] start = new int[keys.length + 2];
+            for (int v = 0; v < numV; v++) {
+                start[degree(v) + 1]++;
+            }
+            for (int d = 0; d + 1 < start.length; d++) {
+                start[d + 1] += start[d];
+            }
+            int[] sorted = new int[numV];
+            for (int v = 0; v < numV; v++) {
+                sorted[start[degree(v)]++] = v;
+            }
+            return sorted;
+        }
+    }
+}
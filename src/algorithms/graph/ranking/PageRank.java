@@ -0,0 +1,233 @@
+package algorithms.graph.ranking;
+
+import algorithms.graph.ParallelRange;
+import datastructures.graph.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/** Computes PageRank and personalized PageRank by power iteration. The
+ graph is copied once into a pull snapshot that holds, for every vertex,
+ the sources of its incoming edges, plus the out‐degree of every vertex.
+ Each iteration first computes the share rank[u] / outDegree[u] that
+ every vertex passes along each out‐edge, and then lets every vertex sum
+ the shares of its in‐edges. Because each vertex only writes its own
+ entry, the vertices are processed in parallel without synchronization,
+ and two rank vectors are swapped between iterations.
+
+ The rank of a dangling vertex, one without out‐edges, is spread over
+ all vertices in proportion to the teleport vector, so the ranks always
+ sum to 1. Edge weights are ignored; a repeated edge counts once per
+ copy.
+ */
+public class PageRank {
+
+    /** The usual probability of following an edge instead of teleporting */
+    public static final double DEFAULT_DAMPING = 0.85;
+
+    // Data Fields
+    /** The position of the first in‐edge of each vertex */
+    private final int[] inOffsets;
+    /** The source of each in‐edge */
+    private final int[] inSources;
+    /** The number of out‐edges of each vertex */
+    private final int[] outDegree;
+    /** The pool that runs each iteration */
+    private final ForkJoinPool pool;
+
+    /** The ranks and the convergence history of a computation. */
+    public static class Result {
+        private final double[] ranks;
+        private final double[] residuals;
+        private final double[] iterationMillis;
+        private final boolean converged;
+
+        private Result(double[] ranks, double[] residuals, double[] iterationMillis,
+                       boolean converged) {
+            this.ranks = ranks;
+            this.residuals = residuals;
+            this.iterationMillis = iterationMillis;
+            this.converged = converged;
+        }
+
+        /** @return The rank of every vertex; the ranks sum to 1 */
+        public double[] getRanks() {
+            return ranks;
+        }
+
+        /** @return The number of iterations performed */
+        public int getIterations() {
+            return residuals.length;
+        }
+
+        /** Return the L1 distance between the rank vectors before and
+         after each iteration.
+         @return The residual of every iteration
+         */
+        public double[] getResiduals() {
+            return residuals;
+        }
+
+        /** @return The wall‐clock time of every iteration in milliseconds */
+        public double[] getIterationMillis() {
+            return iterationMillis;
+        }
+
+        /** @return true if the last residual was below the tolerance */
+        public boolean isConverged() {
+            return converged;
+        }
+    }
+
+    /**
+     * Take a snapshot of a graph for ranking. The edges are read twice
+     * with forEachNeighbor, once to count the degrees and once to place
+     * the in‐edges.
+     *
+     * @param graph The graph to be ranked
+     * @param pool  The pool that runs each iteration
+     * @throws IllegalArgumentException if the graph has 2^31 or more edges
+     */
+    public PageRank(Graph graph, ForkJoinPool pool) {
+        this.pool = pool;
+        int numV = graph.getNumV();
+        outDegree = new int[numV];
+        inOffsets = new int[numV + 1];
+        long[] numEdges = new long[1];
+        for (int v = 0; v < numV; v++) {
+            final int source = v;
+            graph.forEachNeighbor(v, (dest, weight) -> {
+                outDegree[source]++;
+                inOffsets[dest + 1]++;
+                numEdges[0]++;
+            });
+        }
+        if (numEdges[0] > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for a snapshot: " + numEdges[0]);
+        }
+        for (int v = 0; v < numV; v++) {
+            inOffsets[v + 1] += inOffsets[v];
+        }
+        int[] next = Arrays.copyOf(inOffsets, numV);
+        inSources = new int[(int) numEdges[0]];
+        for (int v = 0; v < numV; v++) {
+            final int source = v;
+            graph.forEachNeighbor(v, (dest, weight) -> inSources[next[dest]++] = source);
+        }
+    }
+
+    /**
+     * Compute PageRank with uniform teleportation.
+     *
+     * @param damping       The probability of following an edge
+     * @param tolerance     Stop when the residual falls below this value
+     * @param maxIterations The largest number of iterations
+     * @return The ranks and the convergence history
+     * @throws IllegalArgumentException if damping is not in [0, 1),
+     *                                  tolerance is negative or
+     *                                  maxIterations is not positive
+     */
+    public Result compute(double damping, double tolerance, int maxIterations) {
+        int numV = outDegree.length;
+        double[] teleport = new double[numV];
+        Arrays.fill(teleport, 1.0 / numV);
+        return iterate(teleport, damping, tolerance, maxIterations);
+    }
+
+    /**
+     * Compute personalized PageRank: teleportation, and the rank of
+     * dangling vertices, only go to the seed vertices, each with equal
+     * probability.
+     *
+     * @param seeds         The seed vertices; a repeated seed counts twice
+     * @param damping       The probability of following an edge
+     * @param tolerance     Stop when the residual falls below this value
+     * @param maxIterations The largest number of iterations
+     * @return The ranks and the convergence history
+     * @throws IllegalArgumentException if there are no seeds, a seed is
+     *                                  not a vertex, damping is not in
+     *                                  [0, 1), tolerance is negative or
+     *                                  maxIterations is not positive
+     */
+    public Result personalized(int[] seeds, double damping, double tolerance, int maxIterations) {
+        int numV = outDegree.length;
+        if (seeds.length == 0) {
+            throw new IllegalArgumentException("No seed vertices");
+        }
+        double[] teleport = new double[numV];
+        for (int seed : seeds) {
+            if (seed < 0 || seed >= numV) {
+                throw new IllegalArgumentException("Invalid seed vertex: " + seed);
+            }
+            teleport[seed] += 1.0 / seeds.length;
+        }
+        return iterate(teleport, damping, tolerance, maxIterations);
+    }
+
+    /** Run the power iteration from the teleport vector.
+     @param teleport The teleport probability of every vertex
+     @return The ranks and the convergence history
+     */
+    private Result iterate(double[] teleport, double damping, double tolerance,
+                           int maxIterations) {
+        if (!(damping >= 0 && damping < 1)) {
+            throw new IllegalArgumentException("Damping must be in [0, 1): " + damping);
+        }
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("Tolerance must not be negative: " + tolerance);
+        }
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Need at least one iteration: " + maxIterations);
+        }
+        int numV = outDegree.length;
+        double[] rank = teleport.clone();
+        double[] next = new double[numV];
+        double[] share = new double[numV];
+        double[] residuals = new double[maxIterations];
+        double[] millis = new double[maxIterations];
+        int iterations = 0;
+        boolean converged = false;
+        while (iterations < maxIterations && !converged) {
+            long begin = System.nanoTime();
+            final double[] current = rank;
+            final double[] following = next;
+            // Push phase: the share of every vertex and the dangling mass.
+            double dangling = ParallelRange.reduce(pool, 0, numV, (from, to) -> {
+                double sum = 0;
+                for (int u = from; u < to; u++) {
+                    if (outDegree[u] == 0) {
+                        sum += current[u];
+                        share[u] = 0;
+                    } else {
+                        share[u] = current[u] / outDegree[u];
+                    }
+                }
+                return sum;
+            }, Double::sum);
+            // Pull phase: each vertex sums the shares of its in‐edges.
+            double scale = 1 - damping + damping * dangling;
+            double residual = ParallelRange.reduce(pool, 0, numV, (from, to) -> {
+                double sum = 0;
+                for (int v = from; v < to; v++) {
+                    double incoming = 0;
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        incoming += share[inSources[e]];
+                    }
+                    double value = scale * teleport[v] + damping * incoming;
+                    following[v] = value;
+                    sum += Math.abs(value - current[v]);
+                }
+                return sum;
+            }, Double::sum);
+            // Swap the rank vectors.
+            next = rank;
+            rank = following;
+            residuals[iterations] = residual;
+            millis[iterations] = (System.nanoTime() - begin) / 1e6;
+            iterations++;
+            converged = residual < tolerance;
+        }
+        return new Result(rank, Arrays.copyOf(residuals, iterations),
+                Arrays.copyOf(millis, iterations), converged);
+    }
+}
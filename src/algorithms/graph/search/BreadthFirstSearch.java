@@ -1,11 +1,7 @@
 package algorithms.graph.search;
 
-import datastructures.graph.Edge;
 import datastructures.graph.Graph;
-
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Queue;
+import datastructures.graph.IntDoubleConsumer;
 
 /** Class to implement the breadth‐first search algorithm. */
 public class BreadthFirstSearch {
@@ -18,8 +14,6 @@ public class BreadthFirstSearch {
      @return The array of parents
      */
     public static int[] breadthFirstSearch(Graph graph, int start) {
-        Queue<Integer> queue = new LinkedList<Integer>();
-
         // Declare array parent and initialize its elements to –1.
         int[] parent = new int[graph.getNumV()];
         for (int i = 0; i < graph.getNumV(); i++) {
@@ -29,30 +23,53 @@ public class BreadthFirstSearch {
         // Declare array visited and initialize its elements to false.
         boolean[] visited = new boolean[graph.getNumV()];
 
+        // Each vertex is queued at most once, so an array is enough.
+        NeighborVisitor visitor = new NeighborVisitor(parent, visited);
+
         // Mark the start vertex as visited and insert it into the queue.
         visited[start] = true;
-        queue.offer(start);
+        visitor.queue[visitor.tail++] = start;
 
         // Perform breadth‐first search until done
-        while (!queue.isEmpty()) {
+        int head = 0;
+        while (head < visitor.tail) {
             // Take a vertex, current, out of the queue.
-            int current = queue.remove();
+            int current = visitor.queue[head++];
             System.out.print(current + "\t");
             // Examine each vertex, neighbor, adjacent to current.
-            Iterator<Edge> itr = graph.edgeIterator(current);
-            while (itr.hasNext()) {
-                Edge edge = itr.next();
-                int neighbor = edge.getDest();
-                if (!visited[neighbor]) {
-                    // Mark it visited.
-                    visited[neighbor] = true;
-                    // Place it into the queue.
-                    queue.offer(neighbor);
-                    // Insert the edge (current, neighbor) into the tree.
-                    parent[neighbor] = current;
-                }
-            }
+            visitor.current = current;
+            graph.forEachNeighbor(current, visitor);
         }
         return parent;
     }
+
+    /** Examines the neighbors of the current vertex and queues the ones
+     that have not been visited. A single instance is reused for every
+     vertex so that the search does not allocate per vertex.
+     */
+    private static class NeighborVisitor implements IntDoubleConsumer {
+        private final int[] parent;
+        private final boolean[] visited;
+        private final int[] queue;
+        private int tail;
+        private int current;
+
+        private NeighborVisitor(int[] parent, boolean[] visited) {
+            this.parent = parent;
+            this.visited = visited;
+            this.queue = new int[parent.length];
+        }
+
+        @Override
+        public void accept(int neighbor, double weight) {
+            if (!visited[neighbor]) {
+                // Mark it visited.
+                visited[neighbor] = true;
+                // Place it into the queue.
+                queue[tail++] = neighbor;
+                // Insert the edge (current, neighbor) into the tree.
+                parent[neighbor] = current;
+            }
+        }
+    }
 }
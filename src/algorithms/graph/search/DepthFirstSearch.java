@@ -1,50 +1,184 @@
 package algorithms.graph.search;
 
-import datastructures.graph.Edge;
+import datastructures.graph.CsrGraph;
 import datastructures.graph.Graph;
 
 import java.util.Arrays;
-import java.util.Iterator;
 
-/** Class to implement the depth‐first search algorithm. */
+/** Class to implement the depth‐first search algorithm. The search uses
+ an explicit stack instead of recursion, so its depth is limited only by
+ the number of vertices.
+ */
 public class DepthFirstSearch {
 
-    /** Start depth‐first search the graph starting at vertex start.
+    /** The arrays computed by a depth‐first search. */
+    public static class Result {
+        private final int[] parent;
+        private final int[] discoveryOrder;
+        private final int[] finishOrder;
+        private final int[] discoveryTime;
+        private final int[] finishTime;
+
+        private Result(int[] parent, int[] discoveryOrder, int[] finishOrder,
+                       int[] discoveryTime, int[] finishTime) {
+            this.parent = parent;
+            this.discoveryOrder = discoveryOrder;
+            this.finishOrder = finishOrder;
+            this.discoveryTime = discoveryTime;
+            this.finishTime = finishTime;
+        }
+
+        /** @return The parent of each vertex in the depth‐first search
+         forest, or ‐1 for roots and unvisited vertices */
+        public int[] getParent() {
+            return parent;
+        }
+
+        /** @return The visited vertices in the order they were discovered */
+        public int[] getDiscoveryOrder() {
+            return discoveryOrder;
+        }
+
+        /** @return The visited vertices in the order they were finished */
+        public int[] getFinishOrder() {
+            return finishOrder;
+        }
+
+        /** @return The time stamp at which each vertex was discovered,
+         or ‐1 if it was not visited */
+        public int[] getDiscoveryTime() {
+            return discoveryTime;
+        }
+
+        /** @return The time stamp at which each vertex was finished,
+         or ‐1 if it was not visited. The discovery and finish stamps
+         share one clock, so [discovery, finish] intervals nest. */
+        public int[] getFinishTime() {
+            return finishTime;
+        }
+    }
+
+    /** Start depth‐first search the graph starting at vertex start,
+     printing the vertices in discovery order.
      @param graph The graph object.
      @param start The start vertex
+     @return The array of parents
      */
-    public static void depthFirstSearch(Graph graph, int start){
-        int n = graph.getNumV();
-        boolean[] visited = new boolean[n];
-        int[] parent = new int[n];
-        Arrays.fill(parent, -1);
-        depthFirstSearchRecurse(graph, start, visited, parent);
+    public static int[] depthFirstSearch(Graph graph, int start){
+        return search(graph, start, new DfsVisitor() {
+            @Override
+            public void preVisit(int vertex, int parent) {
+                // Print by discovery order.
+                System.out.print(vertex + "\t");
+            }
+        }).getParent();
     }
 
-    /** Recursively depth‐first search the graph starting at vertex current.
+    /** Depth‐first search the vertices reachable from start.
      @param graph The graph object.
-     @param current The start vertex
-     @param visited Boolean array of visited nodes
-     @param parent Integer array of parent nodes for corresponding vertices.
+     @param start The start vertex
+     @param visitor Receives the pre and post events, or null
+     @return The parent, order and time stamp arrays
      */
-    private static void depthFirstSearchRecurse(Graph graph, int current, boolean[] visited, int[] parent) {
-        /* Mark the current vertex visited. */
-        visited[current] = true;
-        // Print by discovery order.
-        System.out.print(current + "\t");
-        /* Examine each vertex adjacent to the current vertex */
-        Iterator<Edge> itr = graph.edgeIterator(current);
-        while (itr.hasNext()) {
-            int neighbor = itr.next().getDest();
-            /* Process a neighbor that has not been visited */
-            if (!visited[neighbor]) {
-                /* Insert (current, neighbor) into the depth‐first search tree. */
-                parent[neighbor] = current;
-                /* Recursively apply the algorithm starting at neighbor. */
-                depthFirstSearchRecurse(graph, neighbor, visited, parent);
+    public static Result search(Graph graph, int start, DfsVisitor visitor) {
+        return new Search(CsrGraph.copyOf(graph), visitor).run(new int[] {start});
+    }
+
+    /** Depth‐first search the whole graph, starting a new tree at each
+     unvisited vertex in increasing order.
+     @param graph The graph object.
+     @param visitor Receives the pre and post events, or null
+     @return The parent, order and time stamp arrays of the forest
+     */
+    public static Result searchAll(Graph graph, DfsVisitor visitor) {
+        int[] roots = new int[graph.getNumV()];
+        for (int v = 0; v < roots.length; v++) {
+            roots[v] = v;
+        }
+        return new Search(CsrGraph.copyOf(graph), visitor).run(roots);
+    }
+
+    /** The state of one search. The stack holds the path from the root to
+     the current vertex, and next[v] remembers which edge of v to examine
+     when v is on top of the stack again.
+     */
+    private static class Search {
+        private final CsrGraph graph;
+        private final DfsVisitor visitor;
+        private final int[] parent;
+        private final int[] next;
+        private final int[] stack;
+        private final int[] discoveryOrder;
+        private final int[] finishOrder;
+        private final int[] discoveryTime;
+        private final int[] finishTime;
+        private int numDiscovered;
+        private int numFinished;
+        private int clock;
+
+        private Search(CsrGraph graph, DfsVisitor visitor) {
+            int n = graph.getNumV();
+            this.graph = graph;
+            this.visitor = visitor;
+            parent = new int[n];
+            next = new int[n];
+            stack = new int[n];
+            discoveryOrder = new int[n];
+            finishOrder = new int[n];
+            discoveryTime = new int[n];
+            finishTime = new int[n];
+            Arrays.fill(parent, -1);
+            Arrays.fill(discoveryTime, -1);
+            Arrays.fill(finishTime, -1);
+        }
+
+        private Result run(int[] roots) {
+            for (int root : roots) {
+                if (discoveryTime[root] < 0) {
+                    visitTree(root);
+                }
+            }
+            return new Result(parent,
+                    Arrays.copyOf(discoveryOrder, numDiscovered),
+                    Arrays.copyOf(finishOrder, numFinished),
+                    discoveryTime, finishTime);
+        }
+
+        private void visitTree(int root) {
+            int top = 0;
+            stack[top] = root;
+            discover(root);
+            while (top >= 0) {
+                int current = stack[top];
+                /* Examine the next vertex adjacent to the current vertex */
+                if (next[current] < graph.edgeEnd(current)) {
+                    int neighbor = graph.getTarget(next[current]++);
+                    /* Process a neighbor that has not been visited */
+                    if (discoveryTime[neighbor] < 0) {
+                        /* Insert (current, neighbor) into the depth‐first search tree. */
+                        parent[neighbor] = current;
+                        stack[++top] = neighbor;
+                        discover(neighbor);
+                    }
+                } else {
+                    /* All neighbors are done, so current is finished. */
+                    top--;
+                    finishTime[current] = clock++;
+                    finishOrder[numFinished++] = current;
+                    if (visitor != null) {
+                        visitor.postVisit(current, parent[current]);
+                    }
+                }
+            }
+        }
+
+        private void discover(int vertex) {
+            discoveryTime[vertex] = clock++;
+            discoveryOrder[numDiscovered++] = vertex;
+            next[vertex] = graph.edgeStart(vertex);
+            if (visitor != null) {
+                visitor.preVisit(vertex, parent[vertex]);
             }
         }
-        // Print by finish order.
-        // System.out.print(current + "\t");
     }
 }
@@ -0,0 +1,20 @@
+package algorithms.graph.search;
+
+/** Receives the events of a depth‐first search. Both methods do
+ nothing by default, so a visitor only overrides the events it needs.
+ */
+public interface DfsVisitor {
+    /** Called when a vertex is discovered.
+     @param vertex The discovered vertex
+     @param parent The vertex it was reached from, or ‐1 for a root
+     */
+    default void preVisit(int vertex, int parent) {
+    }
+
+    /** Called when all vertices reachable from a vertex are finished.
+     @param vertex The finished vertex
+     @param parent The vertex it was reached from, or ‐1 for a root
+     */
+    default void postVisit(int vertex, int parent) {
+    }
+}
@@ -0,0 +1,210 @@
+package algorithms.graph.search;
+
+import algorithms.graph.ParallelRange;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** Level‐synchronous parallel breadth‐first search that switches between
+ top‐down and bottom‐up steps (Beamer, Asanović and Patterson). The
+ frontiers and the visited set are bitsets. A top‐down step expands the
+ out‐edges of the frontier; a bottom‐up step lets every unvisited vertex
+ look for a parent among its in‐edges, which is cheaper once the frontier
+ covers a large part of the graph. The graph snapshot and its transpose
+ are built once, so one instance can answer many queries.
+ */
+public class DirectionOptimizingBFS {
+
+    /** Switch to bottom‐up when the frontier has more than 1/ALPHA of
+     the unexplored edges */
+    private static final int ALPHA = 14;
+    /** Switch back to top‐down when the frontier has fewer than 1/BETA
+     of the vertices */
+    private static final int BETA = 24;
+
+    // Data Fields
+    /** The out‐edges of the graph */
+    private final CsrGraph graph;
+    /** The in‐edges of the graph */
+    private final CsrGraph reverse;
+    /** The pool that runs each level */
+    private final ForkJoinPool pool;
+
+    /** The parents and depths computed by a search. */
+    public static class Result {
+        private final int[] parent;
+        private final int[] depth;
+
+        private Result(int[] parent, int[] depth) {
+            this.parent = parent;
+            this.depth = depth;
+        }
+
+        /** Return the parents in the breadth‐first search tree.
+         @return The array of parents; ‐1 for the start vertex and for
+         unreached vertices
+         */
+        public int[] getParent() {
+            return parent;
+        }
+
+        /** Return the number of edges on a shortest path from the start.
+         @return The array of depths; ‐1 for unreached vertices
+         */
+        public int[] getDepth() {
+            return depth;
+        }
+    }
+
+    /**
+     * Prepare a graph for searching.
+     *
+     * @param graph The graph to be searched
+     * @param pool  The pool that runs each level
+     */
+    public DirectionOptimizingBFS(Graph graph, ForkJoinPool pool) {
+        this.graph = CsrGraph.copyOf(graph);
+        this.reverse = this.graph.transpose();
+        this.pool = pool;
+    }
+
+    /** Perform a breadth‐first search from a start vertex. Nothing is
+     printed.
+     @param start The start vertex
+     @return The parent and depth of every vertex
+     */
+    public Result search(int start) {
+        int numV = graph.getNumV();
+        int words = (numV + 63) >>> 6;
+        int[] parent = new int[numV];
+        int[] depth = new int[numV];
+        Arrays.fill(parent, -1);
+        Arrays.fill(depth, -1);
+
+        AtomicLongArray visited = new AtomicLongArray(words);
+        AtomicLongArray frontier = new AtomicLongArray(words);
+        visited.set(start >>> 6, 1L << start);
+        frontier.set(start >>> 6, 1L << start);
+        depth[start] = 0;
+
+        long frontierSize = 1;
+        long frontierEdges = graph.getDegree(start);
+        long unexploredEdges = graph.getNumEdges();
+        boolean bottomUp = false;
+        int level = 0;
+        while (frontierSize > 0) {
+            // Choose the direction of this step.
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < numV / BETA) {
+                bottomUp = false;
+            }
+            unexploredEdges -= frontierEdges;
+            AtomicLongArray next = new AtomicLongArray(words);
+            long[] counts = bottomUp
+                    ? bottomUpStep(frontier, next, visited, parent, depth, level + 1)
+                    : topDownStep(frontier, next, visited, parent, depth, level + 1);
+            frontierSize = counts[0];
+            frontierEdges = counts[1];
+            frontier = next;
+            level++;
+        }
+        return new Result(parent, depth);
+    }
+
+    /** Expand the out‐edges of every frontier vertex. A vertex is claimed
+     by the thread that sets its visited bit.
+     @return The size of the next frontier and the number of its out‐edges
+     */
+    private long[] topDownStep(AtomicLongArray frontier, AtomicLongArray next,
+                               AtomicLongArray visited, int[] parent, int[] depth,
+                               int nextLevel) {
+        return ParallelRange.reduce(pool, 0, frontier.length(), (from, to) -> {
+            long[] counts = new long[2];
+            for (int word = from; word < to; word++) {
+                long bits = frontier.get(word);
+                while (bits != 0) {
+                    int u = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                        int v = graph.getTarget(e);
+                        if (claim(visited, v)) {
+                            parent[v] = u;
+                            depth[v] = nextLevel;
+                            next.accumulateAndGet(v >>> 6, 1L << v, (x, y) -> x | y);
+                            counts[0]++;
+                            counts[1] += graph.getDegree(v);
+                        }
+                    }
+                }
+            }
+            return counts;
+        }, DirectionOptimizingBFS::add);
+    }
+
+    /** Let every unvisited vertex look for a parent in the frontier. Each
+     task owns whole words of the bitsets, so no atomic updates are needed.
+     @return The size of the next frontier and the number of its out‐edges
+     */
+    private long[] bottomUpStep(AtomicLongArray frontier, AtomicLongArray next,
+                                AtomicLongArray visited, int[] parent, int[] depth,
+                                int nextLevel) {
+        int numV = graph.getNumV();
+        return ParallelRange.reduce(pool, 0, visited.length(), (from, to) -> {
+            long[] counts = new long[2];
+            for (int word = from; word < to; word++) {
+                long seen = visited.get(word);
+                long unvisited = ~seen;
+                if (word == visited.length() - 1 && (numV & 63) != 0) {
+                    unvisited &= (1L << numV) - 1;
+                }
+                long found = 0;
+                while (unvisited != 0) {
+                    int v = (word << 6) + Long.numberOfTrailingZeros(unvisited);
+                    unvisited &= unvisited - 1;
+                    for (int e = reverse.edgeStart(v); e < reverse.edgeEnd(v); e++) {
+                        int u = reverse.getTarget(e);
+                        if ((frontier.get(u >>> 6) & (1L << u)) != 0) {
+                            parent[v] = u;
+                            depth[v] = nextLevel;
+                            found |= 1L << v;
+                            counts[0]++;
+                            counts[1] += graph.getDegree(v);
+                            break;
+                        }
+                    }
+                }
+                if (found != 0) {
+                    next.set(word, found);
+                    visited.set(word, seen | found);
+                }
+            }
+            return counts;
+        }, DirectionOptimizingBFS::add);
+    }
+
+    /** Atomically set the visited bit of a vertex.
+     @return true if this call set the bit
+     */
+    private static boolean claim(AtomicLongArray visited, int v) {
+        int word = v >>> 6;
+        long bit = 1L << v;
+        long current = visited.get(word);
+        while ((current & bit) == 0) {
+            if (visited.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+            current = visited.get(word);
+        }
+        return false;
+    }
+
+    private static long[] add(long[] left, long[] right) {
+        left[0] += right[0];
+        left[1] += right[1];
+        return left;
+    }
+}
@@ -0,0 +1,128 @@
+package algorithms.graph.search;
+
+import algorithms.graph.ParallelRange;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/** Breadth‐first search from many sources at once (MS‐BFS, Then et al.).
+ Up to 64 searches share one traversal: bit i of a vertex's masks belongs
+ to the i‐th source of the batch. Each level, every vertex with a
+ non‐empty visit mask passes the bits its neighbors have not seen yet to
+ their next masks, so an edge is examined once per level for the whole
+ batch instead of once per source. Batches are independent and can run
+ in parallel. The graph snapshot is built once, so one instance can
+ answer many requests.
+ */
+public class MultiSourceBFS {
+
+    /** The number of sources searched together */
+    public static final int BATCH_SIZE = 64;
+
+    // Data Fields
+    /** The out‐edges of the graph */
+    private final CsrGraph graph;
+    /** The pool that runs the batches */
+    private final ForkJoinPool pool;
+
+    /**
+     * Prepare a graph for searching.
+     *
+     * @param graph The graph to be searched
+     * @param pool  The pool that runs the batches, or null to run them
+     *              one after another on the calling thread
+     */
+    public MultiSourceBFS(Graph graph, ForkJoinPool pool) {
+        this.graph = CsrGraph.copyOf(graph);
+        this.pool = pool;
+    }
+
+    /** Compute the number of edges on a shortest path from every source
+     to every vertex. Nothing is printed.
+     @param sources The start vertices; repeats are allowed
+     @return An array whose element [i][v] is the distance from
+     sources[i] to v, or ‐1 if v is unreachable
+     @throws IllegalArgumentException if a source is not a vertex
+     */
+    public int[][] distances(int[] sources) {
+        int numV = graph.getNumV();
+        for (int source : sources) {
+            if (source < 0 || source >= numV) {
+                throw new IllegalArgumentException("Invalid source vertex: " + source);
+            }
+        }
+        int[][] dist = new int[sources.length][];
+        int batches = (sources.length + BATCH_SIZE - 1) / BATCH_SIZE;
+        if (pool == null) {
+            for (int b = 0; b < batches; b++) {
+                searchBatch(sources, b * BATCH_SIZE, dist);
+            }
+        } else {
+            ParallelRange.forEach(pool, 0, batches, 1, (from, to) -> {
+                for (int b = from; b < to; b++) {
+                    searchBatch(sources, b * BATCH_SIZE, dist);
+                }
+            });
+        }
+        return dist;
+    }
+
+    /** Search from up to BATCH_SIZE sources starting at sources[first]
+     and fill their rows of dist.
+     */
+    private void searchBatch(int[] sources, int first, int[][] dist) {
+        int numV = graph.getNumV();
+        int count = Math.min(BATCH_SIZE, sources.length - first);
+        int[][] rows = new int[count][];
+        long[] seen = new long[numV];
+        long[] visit = new long[numV];
+        long[] visitNext = new long[numV];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new int[numV];
+            Arrays.fill(rows[i], -1);
+            int source = sources[first + i];
+            rows[i][source] = 0;
+            seen[source] |= 1L << i;
+            visit[source] |= 1L << i;
+        }
+        int level = 0;
+        boolean active = true;
+        while (active) {
+            level++;
+            active = false;
+            // Pass every visit mask to the neighbors.
+            for (int v = 0; v < numV; v++) {
+                long bits = visit[v];
+                if (bits == 0) {
+                    continue;
+                }
+                for (int e = graph.edgeStart(v); e < graph.edgeEnd(v); e++) {
+                    int w = graph.getTarget(e);
+                    visitNext[w] |= bits & ~seen[w];
+                }
+            }
+            // Keep the bits that are new, record their level in vertex
+            // order, so every row is written sequentially, and clear the
+            // old masks for the next level.
+            for (int v = 0; v < numV; v++) {
+                visit[v] = 0;
+                long fresh = visitNext[v] & ~seen[v];
+                visitNext[v] = fresh;
+                if (fresh != 0) {
+                    seen[v] |= fresh;
+                    active = true;
+                    while (fresh != 0) {
+                        rows[Long.numberOfTrailingZeros(fresh)][v] = level;
+                        fresh &= fresh - 1;
+                    }
+                }
+            }
+            long[] swap = visit;
+            visit = visitNext;
+            visitNext = swap;
+        }
+        System.arraycopy(rows, 0, dist, first, count);
+    }
+}
@@ -0,0 +1,98 @@
+package algorithms.graph.shortestpath;
+
+import datastructures.graph.Graph;
+import datastructures.graph.IntDoubleConsumer;
+import datastructures.heap.IndexedMinHeap;
+
+/** A* search for a shortest path between two vertices. It is Dijkstra's
+ algorithm with the vertices of V–S ordered by dist[v] plus a heuristic
+ estimate of the remaining distance to the target, so that vertices
+ leading away from the target are settled late or never.
+ */
+public class AStar {
+
+    /**
+     * Find a shortest path from a start vertex to a target vertex. The
+     * output has the same form as Dijkstra.shortestPath. A vertex whose
+     * distance improves after it was settled is put back into V–S, so an
+     * admissible but inconsistent heuristic also gives shortest paths.
+     *
+     * @post pred and dist describe a shortest path from start to target;
+     * the other vertices hold tentative values.
+     * @param graph     The weighted graph to be searched
+     * @param start     The start vertex
+     * @param target    The target vertex
+     * @param heuristic An admissible estimate of the distance to target
+     * @param pred      Output array to contain the predecessors in the shortest path
+     * @param dist      Output array to contain the distance in the shortest path
+     * @return The distance from start to target, or Dijkstra.INFINITY if
+     * target is unreachable
+     * @throws IllegalArgumentException if a negative edge weight is found
+     */
+    public static double shortestPath(Graph graph, int start, int target, Heuristic heuristic,
+                                      int[] pred, double[] dist) {
+        int numV = graph.getNumV();
+
+        // Initialization.
+        for (int v = 0; v < numV; v++) {
+            dist[v] = Dijkstra.INFINITY;
+            pred[v] = Dijkstra.UNDEFINED;
+        }
+        dist[start] = 0;
+
+        IndexedMinHeap vMinusS = new IndexedMinHeap(numV);
+        vMinusS.add(start, heuristic.estimate(start, target));
+        Relaxation relaxation = new Relaxation(vMinusS, pred, dist, heuristic, target);
+
+        // Main loop
+        while (!vMinusS.isEmpty()) {
+            // Remove the value u in V–S with the smallest dist[u] + h(u).
+            int u = vMinusS.remove();
+            if (u == target) {
+                break;
+            }
+            relaxation.settled = u;
+            graph.forEachNeighbor(u, relaxation);
+        }
+        return dist[target];
+    }
+
+    /** Relaxes the edges of the most recently settled vertex, keying
+     each improved vertex by its distance plus its estimate.
+     */
+    private static class Relaxation implements IntDoubleConsumer {
+        private final IndexedMinHeap vMinusS;
+        private final int[] pred;
+        private final double[] dist;
+        private final Heuristic heuristic;
+        private final int target;
+        private int settled;
+
+        private Relaxation(IndexedMinHeap vMinusS, int[] pred, double[] dist,
+                           Heuristic heuristic, int target) {
+            this.vMinusS = vMinusS;
+            this.pred = pred;
+            this.dist = dist;
+            this.heuristic = heuristic;
+            this.target = target;
+        }
+
+        @Override
+        public void accept(int v, double weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative edge weight: "
+                        + settled + " -> " + v + " (" + weight + ")");
+            }
+            double newDist = dist[settled] + weight;
+            if (newDist < dist[v]) {
+                double estimate = heuristic.estimate(v, target);
+                dist[v] = newDist;
+                pred[v] = settled;
+                // A vertex that cannot reach the target need not be queued.
+                if (estimate < Dijkstra.INFINITY) {
+                    vMinusS.addOrDecreaseKey(v, newDist + estimate);
+                }
+            }
+        }
+    }
+}
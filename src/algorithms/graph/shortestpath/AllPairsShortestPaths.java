@@ -0,0 +1,283 @@
+package algorithms.graph.shortestpath;
+
+import algorithms.graph.ParallelRange;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+import datastructures.heap.IndexedMinHeap;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/** Computes the shortest paths between all pairs of vertices, either with
+ a cache‐blocked Floyd‐Warshall algorithm for dense graphs or with
+ Dijkstra's algorithm from every source for sparse ones. Both produce a
+ DistanceMatrix, which holds the distances and, for every pair, the
+ first vertex after the source on a shortest path.
+ */
+public class AllPairsShortestPaths {
+
+    /** The side of the square tiles of the blocked Floyd‐Warshall
+     algorithm; three tiles of doubles fit in a typical L2 cache */
+    static final int TILE = 64;
+
+    /** The distances and next hops of all pairs of vertices. Row u of
+     each matrix describes the paths that start at u. */
+    public static class DistanceMatrix {
+        private final int numV;
+        /** The distance from u to v at index u * numV + v */
+        private final double[] dist;
+        /** The vertex after u on a shortest path to v, or ‐1 */
+        private final int[] next;
+
+        private DistanceMatrix(int numV, double[] dist, int[] next) {
+            this.numV = numV;
+            this.dist = dist;
+            this.next = next;
+        }
+
+        /** Return the number of vertices.
+         @return The number of vertices
+         */
+        public int getNumV() {
+            return numV;
+        }
+
+        /** Return the length of a shortest path.
+         @param source The source vertex
+         @param dest The destination vertex
+         @return The distance, or Dijkstra.INFINITY if dest is unreachable
+         */
+        public double getDistance(int source, int dest) {
+            return dist[index(source, dest)];
+        }
+
+        /** Return the vertex that follows the source on a shortest path.
+         @param source The source vertex
+         @param dest The destination vertex
+         @return The next vertex, source itself if dest == source, or ‐1
+         if dest is unreachable
+         */
+        public int getNextHop(int source, int dest) {
+            return next[index(source, dest)];
+        }
+
+        /** Reconstruct a shortest path by following the next hops.
+         @param source The source vertex
+         @param dest The destination vertex
+         @return The vertices of the path, from source to dest, or null if
+         dest is unreachable
+         */
+        public int[] path(int source, int dest) {
+            if (next[index(source, dest)] < 0) {
+                return null;
+            }
+            int length = 1;
+            for (int v = source; v != dest; v = next[v * numV + dest]) {
+                length++;
+            }
+            int[] path = new int[length];
+            path[0] = source;
+            for (int i = 1, v = source; v != dest; i++) {
+                v = next[v * numV + dest];
+                path[i] = v;
+            }
+            return path;
+        }
+
+        private int index(int source, int dest) {
+            if (source < 0 || source >= numV || dest < 0 || dest >= numV) {
+                throw new IndexOutOfBoundsException("Invalid pair: " + source + " -> " + dest);
+            }
+            return source * numV + dest;
+        }
+    }
+
+    /**
+     * Compute all shortest paths with the Floyd‐Warshall algorithm on a
+     * flat matrix divided into TILE x TILE tiles. Round k first closes the
+     * diagonal tile (k, k), then the other tiles of row k and column k,
+     * which only depend on it, in parallel, and finally all remaining
+     * tiles in parallel. Every tile update touches three tiles that stay
+     * in cache. The matrix is read with forEachNeighbor, so a MatrixGraph
+     * is read row by row from its dense storage. Negative weights are
+     * allowed.
+     *
+     * @param graph The weighted graph
+     * @param pool  The pool that runs each phase
+     * @return The distances and next hops
+     * @throws IllegalArgumentException if the graph has a negative cycle
+     *                                  or is too large for one array
+     */
+    public static DistanceMatrix floydWarshall(Graph graph, ForkJoinPool pool) {
+        int numV = graph.getNumV();
+        if ((long) numV * numV > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many vertices for a distance matrix: " + numV);
+        }
+        double[] dist = new double[numV * numV];
+        int[] next = new int[numV * numV];
+        Arrays.fill(dist, Dijkstra.INFINITY);
+        Arrays.fill(next, -1);
+        for (int u = 0; u < numV; u++) {
+            final int row = u * numV;
+            final int source = u;
+            dist[row + u] = 0;
+            next[row + u] = u;
+            // Keep the lightest of parallel edges.
+            graph.forEachNeighbor(u, (v, weight) -> {
+                if (weight < dist[row + v]) {
+                    dist[row + v] = weight;
+                    next[row + v] = v;
+                }
+            });
+            if (dist[row + u] < 0) {
+                throw new IllegalArgumentException("Negative cycle through " + source);
+            }
+        }
+
+        int tiles = (numV + TILE - 1) / TILE;
+        for (int k = 0; k < tiles; k++) {
+            final int kk = k;
+            // Phase 1: the diagonal tile.
+            updateTile(dist, next, numV, k, k, k);
+            // Phase 2: the rest of row k (indices below tiles) and of
+            // column k (indices from tiles on).
+            ParallelRange.forEach(pool, 0, 2 * tiles, 1, (from, to) -> {
+                for (int t = from; t < to; t++) {
+                    int other = t % tiles;
+                    if (other == kk) {
+                        continue;
+                    }
+                    if (t < tiles) {
+                        updateTile(dist, next, numV, kk, other, kk);
+                    } else {
+                        updateTile(dist, next, numV, other, kk, kk);
+                    }
+                }
+            });
+            // Phase 3: every other tile.
+            ParallelRange.forEach(pool, 0, tiles * tiles, 1, (from, to) -> {
+                for (int t = from; t < to; t++) {
+                    int i = t / tiles;
+                    int j = t % tiles;
+                    if (i != kk && j != kk) {
+                        updateTile(dist, next, numV, i, j, kk);
+                    }
+                }
+            });
+        }
+        for (int v = 0; v < numV; v++) {
+            if (dist[v * numV + v] < 0) {
+                throw new IllegalArgumentException("Negative cycle through " + v);
+            }
+        }
+        return new DistanceMatrix(numV, dist, next);
+    }
+
+    /**
+     * Compute all shortest paths by running Dijkstra's algorithm from
+     * every source in parallel, which takes O(V (V + E) log V) time and
+     * suits sparse graphs. A graph that is not a CsrGraph is first copied
+     * into one.
+     *
+     * @param graph The weighted graph
+     * @param pool  The pool that runs the searches
+     * @return The distances and next hops
+     * @throws IllegalArgumentException if a negative edge weight is found
+     *                                  or the graph is too large for one array
+     */
+    public static DistanceMatrix repeatedDijkstra(Graph graph, ForkJoinPool pool) {
+        CsrGraph csr = CsrGraph.copyOf(graph);
+        int numV = csr.getNumV();
+        if ((long) numV * numV > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many vertices for a distance matrix: " + numV);
+        }
+        double[] dist = new double[numV * numV];
+        int[] next = new int[numV * numV];
+        ParallelRange.forEach(pool, 0, numV, 1, (from, to) -> {
+            // Each subrange reuses one heap and one settle order.
+            IndexedMinHeap queue = new IndexedMinHeap(numV);
+            int[] order = new int[numV];
+            for (int source = from; source < to; source++) {
+                singleSource(csr, source, queue, order, dist, next);
+            }
+        });
+        return new DistanceMatrix(numV, dist, next);
+    }
+
+    /** Run Dijkstra's algorithm from one source and fill its rows. The
+     next hop of a vertex is inherited from its predecessor, so vertices
+     are processed in the order they were settled.
+     */
+    private static void singleSource(CsrGraph graph, int source, IndexedMinHeap queue,
+                                     int[] order, double[] dist, int[] next) {
+        int numV = graph.getNumV();
+        int row = source * numV;
+        Arrays.fill(dist, row, row + numV, Dijkstra.INFINITY);
+        Arrays.fill(next, row, row + numV, -1);
+        dist[row + source] = 0;
+        next[row + source] = source;
+        queue.add(source, 0);
+        int settled = 0;
+        while (!queue.isEmpty()) {
+            int u = queue.remove();
+            order[settled++] = u;
+            double du = dist[row + u];
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                int v = graph.getTarget(e);
+                double weight = graph.getWeight(e);
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Negative edge weight: "
+                            + u + " -> " + v + " (" + weight + ")");
+                }
+                double newDist = du + weight;
+                if (newDist < dist[row + v]) {
+                    dist[row + v] = newDist;
+                    // Until v is settled, next holds its predecessor.
+                    next[row + v] = u;
+                    queue.addOrDecreaseKey(v, newDist);
+                }
+            }
+        }
+        for (int i = 1; i < settled; i++) {
+            int v = order[i];
+            int pred = next[row + v];
+            next[row + v] = pred == source ? v : next[row + pred];
+        }
+    }
+
+    /** Relax every pair of a tile through the vertices of tile column
+     kTile, with k as the outer loop so that a tile that is its own
+     input is updated in the same order as the unblocked algorithm.
+     @param dist The distance matrix
+     @param next The next‐hop matrix
+     @param numV The number of vertices
+     @param iTile The tile row
+     @param jTile The tile column
+     @param kTile The tile of intermediate vertices
+     */
+    private static void updateTile(double[] dist, int[] next, int numV,
+                                   int iTile, int jTile, int kTile) {
+        int iEnd = Math.min(numV, (iTile + 1) * TILE);
+        int jStart = jTile * TILE;
+        int jEnd = Math.min(numV, jStart + TILE);
+        int kEnd = Math.min(numV, (kTile + 1) * TILE);
+        for (int k = kTile * TILE; k < kEnd; k++) {
+            int kRow = k * numV;
+            for (int i = iTile * TILE; i < iEnd; i++) {
+                int iRow = i * numV;
+                double ik = dist[iRow + k];
+                if (ik == Dijkstra.INFINITY) {
+                    continue;
+                }
+                int hop = next[iRow + k];
+                for (int j = jStart; j < jEnd; j++) {
+                    double through = ik + dist[kRow + j];
+                    if (through < dist[iRow + j]) {
+                        dist[iRow + j] = through;
+                        next[iRow + j] = hop;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package algorithms.graph.shortestpath;
+
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+import datastructures.heap.IndexedMinHeap;
+import datastructures.list.IntArrayList;
+
+import java.util.Arrays;
+
+/** Point‐to‐point shortest paths by bidirectional Dijkstra search. One
+ search runs forward from the source over the out‐edges and another runs
+ backward from the target over the in‐edges, always advancing the one
+ whose next vertex is closer. The best path through a vertex labeled by
+ both searches is remembered, and the searches stop as soon as the two
+ smallest keys add up to at least its length.
+
+ The graph and its reverse index are built once, when the object is
+ created, and the working arrays are reused by every query. Labels are
+ invalidated by advancing a query number instead of clearing the arrays,
+ so a query costs time in proportion to the vertices it touches. An
+ object answers one query at a time.
+ */
+public class BidirectionalDijkstra {
+
+    // Data Fields
+    /** The out‐edges of the graph */
+    private final CsrGraph forward;
+    /** The in‐edges of the graph */
+    private final CsrGraph reverse;
+    /** The state of the forward search */
+    private final Search fromSource;
+    /** The state of the backward search */
+    private final Search toTarget;
+    /** The number of the current query */
+    private int query;
+    /** The length of the best path found in the current query */
+    private double best;
+    /** The vertex where the best path joins the two searches, or ‐1 */
+    private int meeting;
+
+    /**
+     * Prepare a graph for queries. A graph that is not a CsrGraph is
+     * copied into one; for a directed graph the reverse index is built.
+     *
+     * @param graph The weighted graph to be searched
+     */
+    public BidirectionalDijkstra(Graph graph) {
+        forward = CsrGraph.copyOf(graph);
+        reverse = forward.transpose();
+        fromSource = new Search(forward);
+        toTarget = new Search(reverse);
+    }
+
+    /**
+     * Compute the distance from a source vertex to a target vertex.
+     *
+     * @param source The source vertex
+     * @param target The target vertex
+     * @return The length of a shortest path, or Dijkstra.INFINITY if
+     * target is unreachable
+     * @throws IllegalArgumentException if a negative edge weight is found
+     */
+    public double distance(int source, int target) {
+        search(source, target);
+        return best;
+    }
+
+    /**
+     * Find a shortest path from a source vertex to a target vertex.
+     *
+     * @param source The source vertex
+     * @param target The target vertex
+     * @return The vertices of a shortest path, from source to target, or
+     * null if target is unreachable
+     * @throws IllegalArgumentException if a negative edge weight is found
+     */
+    public int[] path(int source, int target) {
+        search(source, target);
+        if (meeting < 0) {
+            return null;
+        }
+        // Walk from the meeting vertex back to each end.
+        IntArrayList toSource = new IntArrayList();
+        for (int v = meeting; v != Dijkstra.UNDEFINED; v = fromSource.pred[v]) {
+            toSource.add(v);
+        }
+        IntArrayList fromMeeting = new IntArrayList();
+        for (int v = toTarget.pred[meeting]; v != Dijkstra.UNDEFINED; v = toTarget.pred[v]) {
+            fromMeeting.add(v);
+        }
+        int[] path = new int[toSource.size() + fromMeeting.size()];
+        for (int i = 0; i < toSource.size(); i++) {
+            path[i] = toSource.get(toSource.size() - 1 - i);
+        }
+        for (int i = 0; i < fromMeeting.size(); i++) {
+            path[toSource.size() + i] = fromMeeting.get(i);
+        }
+        return path;
+    }
+
+    /** Run both searches until the stopping criterion holds, leaving the
+     answer in best and meeting.
+     */
+    private void search(int source, int target) {
+        if (++query == Integer.MAX_VALUE) {
+            // Restart the numbering so that old labels cannot match.
+            fromSource.reset();
+            toTarget.reset();
+            query = 1;
+        }
+        best = Dijkstra.INFINITY;
+        meeting = -1;
+        fromSource.start(source, query);
+        toTarget.start(target, query);
+        if (source == target) {
+            best = 0;
+            meeting = source;
+        }
+        while (!fromSource.queue.isEmpty() || !toTarget.queue.isEmpty()) {
+            double forwardKey = fromSource.peekKey();
+            double backwardKey = toTarget.peekKey();
+            // No path through an unsettled vertex can be shorter.
+            if (forwardKey + backwardKey >= best) {
+                break;
+            }
+            if (forwardKey <= backwardKey) {
+                settle(fromSource, toTarget);
+            } else {
+                settle(toTarget, fromSource);
+            }
+        }
+        fromSource.queue.clear();
+        toTarget.queue.clear();
+    }
+
+    /** Settle the closest vertex of one search, relax its edges and check
+     every vertex whose label improves against the other search.
+     @param search The search to advance
+     @param other The search in the opposite direction
+     */
+    private void settle(Search search, Search other) {
+        CsrGraph graph = search.graph;
+        int u = search.queue.remove();
+        double du = search.dist[u];
+        for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+            int v = graph.getTarget(e);
+            double weight = graph.getWeight(e);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative edge weight: "
+                        + u + " -> " + v + " (" + weight + ")");
+            }
+            double newDist = du + weight;
+            if (newDist < search.distance(v)) {
+                search.label(v, newDist, u);
+                double through = newDist + other.distance(v);
+                if (through < best) {
+                    best = through;
+                    meeting = v;
+                }
+            }
+        }
+    }
+
+    /** The labels and queue of a search in one direction. */
+    private static class Search {
+        private final CsrGraph graph;
+        private final double[] dist;
+        private final int[] pred;
+        /** The query in which each label was set */
+        private final int[] stamp;
+        private final IndexedMinHeap queue;
+        private int query;
+
+        private Search(CsrGraph graph) {
+            int numV = graph.getNumV();
+            this.graph = graph;
+            dist = new double[numV];
+            pred = new int[numV];
+            stamp = new int[numV];
+            queue = new IndexedMinHeap(numV);
+        }
+
+        private void start(int vertex, int query) {
+            this.query = query;
+            label(vertex, 0, Dijkstra.UNDEFINED);
+        }
+
+        private void label(int v, double d, int parent) {
+            stamp[v] = query;
+            dist[v] = d;
+            pred[v] = parent;
+            queue.addOrDecreaseKey(v, d);
+        }
+
+        /** Return the label of a vertex in the current query. */
+        private double distance(int v) {
+            return stamp[v] == query ? dist[v] : Dijkstra.INFINITY;
+        }
+
+        private double peekKey() {
+            return queue.isEmpty() ? Dijkstra.INFINITY : queue.getKey(queue.peek());
+        }
+
+        private void reset() {
+            Arrays.fill(stamp, 0);
+        }
+    }
+}
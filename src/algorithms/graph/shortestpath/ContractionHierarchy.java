@@ -0,0 +1,714 @@
+package algorithms.graph.shortestpath;
+
+import datastructures.graph.Graph;
+import datastructures.heap.IndexedMinHeap;
+import datastructures.list.IntArrayList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/** Point‐to‐point shortest paths with contraction hierarchies (Geisberger,
+ Sanders, Schultes and Delling). Preprocessing contracts the vertices one
+ at a time, least important first. Contracting v removes it from the
+ graph and, for every pair of neighbors u and w whose shortest path
+ runs through v, inserts a shortcut u → w that remembers v as its middle
+ vertex. The position of a vertex in this order is its rank.
+
+ A query searches forward from the source and backward from the target,
+ both only along arcs that lead to higher ranks, so each search stays
+ small. The shortest path is found where the two searches meet, and
+ shortcuts on it are unpacked into the original edges.
+
+ A hierarchy can be saved to a file and loaded again, so preprocessing
+ is done once. An object answers one query at a time.
+ */
+public class ContractionHierarchy {
+
+    /** The first four bytes of every file: "CHGR" */
+    public static final int MAGIC = 0x43484752;
+    /** The current file format version */
+    public static final int VERSION = 1;
+    /** The middle vertex of an arc that is an original edge */
+    private static final int NO_MIDDLE = -1;
+    /** The most vertices a witness search settles before it gives up
+     and the shortcut is inserted anyway */
+    private static final int WITNESS_LIMIT = 500;
+    /** The smaller limit used when a contraction is only simulated to
+     compute a priority */
+    private static final int SIMULATION_LIMIT = 10;
+
+    // Data Fields
+    /** The contraction order of each vertex */
+    private final int[] rank;
+    /** The arcs u → v with rank[u] < rank[v], stored at u */
+    private final Arcs up;
+    /** The arcs v → u with rank[u] < rank[v], stored at u with target v */
+    private final Arcs down;
+    /** The state of the forward search */
+    private final Search fromSource;
+    /** The state of the backward search */
+    private final Search toTarget;
+    /** The number of the current query */
+    private int query;
+    /** The length of the best path found in the current query */
+    private double best;
+    /** The vertex where the best path joins the two searches, or ‐1 */
+    private int meeting;
+
+    private ContractionHierarchy(int[] rank, Arcs up, Arcs down) {
+        this.rank = rank;
+        this.up = up;
+        this.down = down;
+        fromSource = new Search(up);
+        toTarget = new Search(down);
+    }
+
+    /**
+     * Build the hierarchy of a graph. The vertices are ordered by twice
+     * their edge difference, the number of shortcuts that contracting
+     * them would insert minus the number of arcs it would remove, plus
+     * the number of their neighbors already contracted, which spreads
+     * the contractions evenly over the graph. Priorities are recomputed
+     * lazily: a vertex is only contracted if its fresh priority is still
+     * the smallest.
+     *
+     * @param graph The weighted graph
+     * @return The contraction hierarchy
+     * @throws IllegalArgumentException if a negative edge weight is found
+     */
+    public static ContractionHierarchy build(Graph graph) {
+        return new Contractor(graph).run();
+    }
+
+    /**
+     * Compute the distance from a source vertex to a target vertex.
+     *
+     * @param source The source vertex
+     * @param target The target vertex
+     * @return The length of a shortest path, or Dijkstra.INFINITY if
+     * target is unreachable
+     */
+    public double distance(int source, int target) {
+        search(source, target);
+        return best;
+    }
+
+    /**
+     * Find a shortest path from a source vertex to a target vertex, with
+     * every shortcut unpacked into the edges of the original graph.
+     *
+     * @param source The source vertex
+     * @param target The target vertex
+     * @return The vertices of a shortest path, from source to target, or
+     * null if target is unreachable
+     */
+    public int[] path(int source, int target) {
+        search(source, target);
+        if (meeting < 0) {
+            return null;
+        }
+        // The arcs of the search trees, from source to target.
+        IntArrayList hops = new IntArrayList();
+        for (int v = meeting; v != source; v = up.source(fromSource.predArc[v])) {
+            hops.add(v);
+        }
+        hops.add(source);
+        int[] packed = new int[hops.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = hops.get(packed.length - 1 - i);
+        }
+        IntArrayList vertices = new IntArrayList();
+        vertices.add(source);
+        for (int i = 0; i + 1 < packed.length; i++) {
+            unpack(packed[i], packed[i + 1], vertices);
+        }
+        for (int v = meeting; v != target; ) {
+            int next = down.source(toTarget.predArc[v]);
+            unpack(v, next, vertices);
+            v = next;
+        }
+        return vertices.toArray();
+    }
+
+    /**
+     * Return the rank of each vertex in the contraction order.
+     *
+     * @return The array of ranks
+     */
+    public int[] getRank() {
+        return rank.clone();
+    }
+
+    /**
+     * Return the number of shortcuts in the hierarchy.
+     *
+     * @return The number of arcs that are not original edges
+     */
+    public int getNumShortcuts() {
+        return up.countShortcuts() + down.countShortcuts();
+    }
+
+    /**
+     * Write the hierarchy to a file, replacing any existing file. The
+     * file holds MAGIC, VERSION, the number of vertices, the ranks and
+     * then the upward and downward arcs in compressed sparse row form.
+     *
+     * @param file The destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rank.length);
+            for (int r : rank) {
+                out.writeInt(r);
+            }
+            up.write(out);
+            down.write(out);
+        }
+    }
+
+    /**
+     * Read a hierarchy written by save.
+     *
+     * @param file The file
+     * @return The contraction hierarchy
+     * @throws IOException if the file cannot be read or is not a
+     *                     hierarchy of the current version
+     */
+    public static ContractionHierarchy load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a contraction hierarchy file: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported contraction hierarchy version " + version
+                        + ": " + file);
+            }
+            int numV = in.readInt();
+            int[] rank = new int[numV];
+            for (int v = 0; v < numV; v++) {
+                rank[v] = in.readInt();
+            }
+            return new ContractionHierarchy(rank, Arcs.read(in, numV), Arcs.read(in, numV));
+        }
+    }
+
+    /** Run both upward searches. Each search stops once its smallest key
+     is no less than the best path found, since every vertex it could
+     still reach is at least that far away.
+     */
+    private void search(int source, int target) {
+        if (++query == Integer.MAX_VALUE) {
+            // Restart the numbering so that old labels cannot match.
+            fromSource.reset();
+            toTarget.reset();
+            query = 1;
+        }
+        best = Dijkstra.INFINITY;
+        meeting = -1;
+        fromSource.start(source, query);
+        toTarget.start(target, query);
+        if (source == target) {
+            best = 0;
+            meeting = source;
+        }
+        while (true) {
+            double forwardKey = fromSource.peekKey();
+            double backwardKey = toTarget.peekKey();
+            if (forwardKey >= best && backwardKey >= best) {
+                break;
+            }
+            if (forwardKey <= backwardKey) {
+                settle(fromSource, toTarget);
+            } else {
+                settle(toTarget, fromSource);
+            }
+        }
+        fromSource.queue.clear();
+        toTarget.queue.clear();
+    }
+
+    /** Settle the closest vertex of one search and relax its arcs. */
+    private void settle(Search search, Search other) {
+        Arcs arcs = search.arcs;
+        int u = search.queue.remove();
+        double du = search.dist[u];
+        for (int a = arcs.offsets[u]; a < arcs.offsets[u + 1]; a++) {
+            int v = arcs.targets[a];
+            double newDist = du + arcs.weights[a];
+            if (newDist < search.distance(v)) {
+                search.label(v, newDist, a);
+                double through = newDist + other.distance(v);
+                if (through < best) {
+                    best = through;
+                    meeting = v;
+                }
+            }
+        }
+    }
+
+    /** Append the original edges of the arc from one vertex to another,
+     excluding the first vertex, to a path. Shortcuts are expanded with
+     an explicit stack of arcs.
+     */
+    private void unpack(int from, int to, IntArrayList vertices) {
+        IntArrayList stack = new IntArrayList();
+        stack.add(to);
+        stack.add(from);
+        while (!stack.isEmpty()) {
+            int a = stack.removeLast();
+            int b = stack.removeLast();
+            // The arc is stored at its endpoint of lower rank.
+            int middle = rank[a] < rank[b] ? up.middleOf(a, b) : down.middleOf(b, a);
+            if (middle == NO_MIDDLE) {
+                vertices.add(b);
+            } else {
+                // Expand a → middle before middle → b.
+                stack.add(b);
+                stack.add(middle);
+                stack.add(middle);
+                stack.add(a);
+            }
+        }
+    }
+
+    /** Arcs in compressed sparse row form, each with the middle vertex of
+     the shortcut it represents. */
+    private static final class Arcs {
+        private final int[] offsets;
+        private final int[] targets;
+        private final double[] weights;
+        private final int[] middles;
+        /** The vertex at which each arc is stored */
+        private final int[] owners;
+
+        private Arcs(int[] offsets, int[] targets, double[] weights, int[] middles) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            this.middles = middles;
+            owners = new int[targets.length];
+            for (int v = 0; v + 1 < offsets.length; v++) {
+                Arrays.fill(owners, offsets[v], offsets[v + 1], v);
+            }
+        }
+
+        /** Return the vertex at which an arc is stored. */
+        private int source(int arc) {
+            return owners[arc];
+        }
+
+        /** Return the middle vertex of the arc stored at owner with the
+         given target. */
+        private int middleOf(int owner, int target) {
+            for (int a = offsets[owner]; a < offsets[owner + 1]; a++) {
+                if (targets[a] == target) {
+                    return middles[a];
+                }
+            }
+            throw new IllegalStateException("Missing arc " + owner + " - " + target);
+        }
+
+        private int countShortcuts() {
+            int count = 0;
+            for (int middle : middles) {
+                if (middle != NO_MIDDLE) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeInt(targets.length);
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            for (int i = 0; i < targets.length; i++) {
+                out.writeInt(targets[i]);
+                out.writeDouble(weights[i]);
+                out.writeInt(middles[i]);
+            }
+        }
+
+        private static Arcs read(DataInputStream in, int numV) throws IOException {
+            int numArcs = in.readInt();
+            int[] offsets = new int[numV + 1];
+            for (int v = 0; v <= numV; v++) {
+                offsets[v] = in.readInt();
+            }
+            int[] targets = new int[numArcs];
+            double[] weights = new double[numArcs];
+            int[] middles = new int[numArcs];
+            for (int i = 0; i < numArcs; i++) {
+                targets[i] = in.readInt();
+                weights[i] = in.readDouble();
+                middles[i] = in.readInt();
+            }
+            return new Arcs(offsets, targets, weights, middles);
+        }
+    }
+
+    /** The labels and queue of an upward search in one direction. */
+    private static class Search {
+        private final Arcs arcs;
+        private final double[] dist;
+        /** The arc by which each vertex was reached */
+        private final int[] predArc;
+        /** The query in which each label was set */
+        private final int[] stamp;
+        private final IndexedMinHeap queue;
+        private int query;
+
+        private Search(Arcs arcs) {
+            int numV = arcs.offsets.length - 1;
+            this.arcs = arcs;
+            dist = new double[numV];
+            predArc = new int[numV];
+            stamp = new int[numV];
+            queue = new IndexedMinHeap(numV);
+        }
+
+        private void start(int vertex, int query) {
+            this.query = query;
+            label(vertex, 0, -1);
+        }
+
+        private void label(int v, double d, int arc) {
+            stamp[v] = query;
+            dist[v] = d;
+            predArc[v] = arc;
+            queue.addOrDecreaseKey(v, d);
+        }
+
+        /** Return the label of a vertex in the current query. */
+        private double distance(int v) {
+            return stamp[v] == query ? dist[v] : Dijkstra.INFINITY;
+        }
+
+        private double peekKey() {
+            return queue.isEmpty() ? Dijkstra.INFINITY : queue.getKey(queue.peek());
+        }
+
+        private void reset() {
+            Arrays.fill(stamp, 0);
+        }
+    }
+
+    /** The remaining graph during preprocessing, in which every vertex
+     keeps its outgoing and incoming arcs in growable arrays. There is at
+     most one arc between an ordered pair of vertices; a parallel arc
+     only lowers its weight.
+     */
+    private static final class Contractor {
+        private final int numV;
+        private final Adjacency out;
+        private final Adjacency in;
+        /** The number of contracted neighbors of each vertex */
+        private final int[] deleted;
+        /** The last contracted vertex, plus one, that updated each vertex */
+        private final int[] updated;
+        /** Witness search labels, valid where stamp equals witnessQuery */
+        private final double[] witnessDist;
+        private final int[] stamp;
+        /** The targets of the current witness search are marked with
+         witnessQuery */
+        private final int[] target;
+        private final IndexedMinHeap witnessQueue;
+        private int witnessQuery;
+
+        private Contractor(Graph graph) {
+            numV = graph.getNumV();
+            out = new Adjacency(numV);
+            in = new Adjacency(numV);
+            deleted = new int[numV];
+            updated = new int[numV];
+            witnessDist = new double[numV];
+            stamp = new int[numV];
+            target = new int[numV];
+            witnessQueue = new IndexedMinHeap(numV);
+            for (int v = 0; v < numV; v++) {
+                final int source = v;
+                graph.forEachNeighbor(source, (dest, weight) -> {
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("Negative edge weight: "
+                                + source + " -> " + dest + " (" + weight + ")");
+                    }
+                    if (dest != source) {
+                        addArc(source, dest, weight, NO_MIDDLE);
+                    }
+                });
+            }
+        }
+
+        private ContractionHierarchy run() {
+            int[] rank = new int[numV];
+            int[][] upTargets = new int[numV][];
+            double[][] upWeights = new double[numV][];
+            int[][] upMiddles = new int[numV][];
+            int[][] downTargets = new int[numV][];
+            double[][] downWeights = new double[numV][];
+            int[][] downMiddles = new int[numV][];
+
+            IndexedMinHeap order = new IndexedMinHeap(numV);
+            for (int v = 0; v < numV; v++) {
+                order.add(v, priority(v));
+            }
+            int next = 0;
+            while (!order.isEmpty()) {
+                int v = order.remove();
+                double priority = priority(v);
+                if (!order.isEmpty() && priority > order.getKey(order.peek())) {
+                    // The priority was stale; try again later.
+                    order.add(v, priority);
+                    continue;
+                }
+                rank[v] = next++;
+                // The remaining arcs of v all lead to higher ranks.
+                int outSize = out.size[v];
+                upTargets[v] = Arrays.copyOf(out.targets[v], outSize);
+                upWeights[v] = Arrays.copyOf(out.weights[v], outSize);
+                upMiddles[v] = Arrays.copyOf(out.middles[v], outSize);
+                int inSize = in.size[v];
+                downTargets[v] = Arrays.copyOf(in.targets[v], inSize);
+                downWeights[v] = Arrays.copyOf(in.weights[v], inSize);
+                downMiddles[v] = Arrays.copyOf(in.middles[v], inSize);
+
+                contract(v, false);
+                for (int i = 0; i < outSize; i++) {
+                    in.remove(upTargets[v][i], v);
+                }
+                for (int i = 0; i < inSize; i++) {
+                    out.remove(downTargets[v][i], v);
+                }
+                out.size[v] = 0;
+                in.size[v] = 0;
+                updateNeighbors(v, upTargets[v], order);
+                updateNeighbors(v, downTargets[v], order);
+            }
+            return new ContractionHierarchy(rank, pack(upTargets, upWeights, upMiddles),
+                    pack(downTargets, downWeights, downMiddles));
+        }
+
+        /** Count the contracted neighbor and lower the priority of each
+         neighbor whose priority dropped; raised priorities are caught
+         lazily when the vertex is removed from the order.
+         @param v The contracted vertex
+         @param neighbors The neighbors of v at one end of its arcs
+         @param order The vertices not yet contracted, by priority
+         */
+        private void updateNeighbors(int v, int[] neighbors, IndexedMinHeap order) {
+            for (int x : neighbors) {
+                // A neighbor at both ends of v is only updated once.
+                if (updated[x] == v + 1) {
+                    continue;
+                }
+                updated[x] = v + 1;
+                deleted[x]++;
+                if (order.contains(x)) {
+                    double priority = priority(x);
+                    if (priority < order.getKey(x)) {
+                        order.decreaseKey(x, priority);
+                    }
+                }
+            }
+        }
+
+        private double priority(int v) {
+            int shortcuts = contract(v, true);
+            return 2 * (shortcuts - out.size[v] - in.size[v]) + deleted[v];
+        }
+
+        /** Find the shortcuts needed to contract a vertex. For every
+         incoming arc u → v a witness search from u, avoiding v, looks
+         for paths to the out‐neighbors w that are no longer than
+         u → v → w; a shortcut is needed for every w without one.
+         @param v The vertex to be contracted
+         @param simulate true to only count the shortcuts
+         @return The number of shortcuts needed
+         */
+        private int contract(int v, boolean simulate) {
+            int shortcuts = 0;
+            for (int i = 0; i < in.size[v]; i++) {
+                int u = in.targets[v][i];
+                double toV = in.weights[v][i];
+                nextWitnessQuery();
+                // Mark the out‐neighbors that the search has to reach.
+                double limit = -1;
+                int remaining = 0;
+                for (int j = 0; j < out.size[v]; j++) {
+                    int w = out.targets[v][j];
+                    if (w != u) {
+                        limit = Math.max(limit, toV + out.weights[v][j]);
+                        if (target[w] != witnessQuery) {
+                            target[w] = witnessQuery;
+                            remaining++;
+                        }
+                    }
+                }
+                if (remaining == 0) {
+                    continue;
+                }
+                witnessSearch(u, v, limit, remaining, simulate ? SIMULATION_LIMIT : WITNESS_LIMIT);
+                for (int j = 0; j < out.size[v]; j++) {
+                    int w = out.targets[v][j];
+                    double via = toV + out.weights[v][j];
+                    if (w != u && witnessDistance(w) > via) {
+                        shortcuts++;
+                        if (!simulate) {
+                            addArc(u, w, via, v);
+                        }
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        /** Run Dijkstra's algorithm from a vertex in the remaining graph
+         without passing through another vertex. It stops when all marked
+         targets are settled, when the next vertex is beyond a distance
+         limit or when a number of vertices are settled. Targets that are
+         not settled keep a tentative distance, which is still the length
+         of a path.
+         @param start The start vertex
+         @param avoid The vertex being contracted
+         @param limit The longest path worth finding
+         @param remaining The number of marked targets
+         @param maxSettled The most vertices to settle
+         */
+        private void witnessSearch(int start, int avoid, double limit, int remaining,
+                                   int maxSettled) {
+            witnessQueue.clear();
+            stamp[start] = witnessQuery;
+            witnessDist[start] = 0;
+            witnessQueue.add(start, 0);
+            int settled = 0;
+            while (!witnessQueue.isEmpty() && settled < maxSettled && remaining > 0) {
+                int u = witnessQueue.peek();
+                if (witnessQueue.getKey(u) > limit) {
+                    break;
+                }
+                witnessQueue.remove();
+                settled++;
+                if (target[u] == witnessQuery) {
+                    remaining--;
+                }
+                double du = witnessDist[u];
+                for (int i = 0; i < out.size[u]; i++) {
+                    int x = out.targets[u][i];
+                    if (x == avoid) {
+                        continue;
+                    }
+                    double newDist = du + out.weights[u][i];
+                    if (newDist < witnessDistance(x)) {
+                        stamp[x] = witnessQuery;
+                        witnessDist[x] = newDist;
+                        witnessQueue.addOrDecreaseKey(x, newDist);
+                    }
+                }
+            }
+        }
+
+        /** Start a new witness search, invalidating all labels and marks. */
+        private void nextWitnessQuery() {
+            if (++witnessQuery == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                Arrays.fill(target, 0);
+                witnessQuery = 1;
+            }
+        }
+
+        private double witnessDistance(int v) {
+            return stamp[v] == witnessQuery ? witnessDist[v] : Dijkstra.INFINITY;
+        }
+
+        private void addArc(int source, int dest, double weight, int middle) {
+            out.put(source, dest, weight, middle);
+            in.put(dest, source, weight, middle);
+        }
+
+        private static Arcs pack(int[][] targets, double[][] weights, int[][] middles) {
+            int numV = targets.length;
+            int[] offsets = new int[numV + 1];
+            for (int v = 0; v < numV; v++) {
+                offsets[v + 1] = offsets[v] + targets[v].length;
+            }
+            int[] packedTargets = new int[offsets[numV]];
+            double[] packedWeights = new double[offsets[numV]];
+            int[] packedMiddles = new int[offsets[numV]];
+            for (int v = 0; v < numV; v++) {
+                System.arraycopy(targets[v], 0, packedTargets, offsets[v], targets[v].length);
+                System.arraycopy(weights[v], 0, packedWeights, offsets[v], weights[v].length);
+                System.arraycopy(middles[v], 0, packedMiddles, offsets[v], middles[v].length);
+            }
+            return new Arcs(offsets, packedTargets, packedWeights, packedMiddles);
+        }
+    }
+
+    /** The arcs of every vertex in one direction, in growable arrays. */
+    private static final class Adjacency {
+        private final int[][] targets;
+        private final double[][] weights;
+        private final int[][] middles;
+        private final int[] size;
+
+        private Adjacency(int numV) {
+            targets = new int[numV][];
+            weights = new double[numV][];
+            middles = new int[numV][];
+            size = new int[numV];
+            for (int v = 0; v < numV; v++) {
+                targets[v] = new int[2];
+                weights[v] = new double[2];
+                middles[v] = new int[2];
+            }
+        }
+
+        /** Add an arc, or lower the weight of the existing arc. */
+        private void put(int v, int target, double weight, int middle) {
+            for (int i = 0; i < size[v]; i++) {
+                if (targets[v][i] == target) {
+                    if (weight < weights[v][i]) {
+                        weights[v][i] = weight;
+                        middles[v][i] = middle;
+                    }
+                    return;
+                }
+            }
+            if (size[v] == targets[v].length) {
+                int capacity = targets[v].length * 2;
+                targets[v] = Arrays.copyOf(targets[v], capacity);
+                weights[v] = Arrays.copyOf(weights[v], capacity);
+                middles[v] = Arrays.copyOf(middles[v], capacity);
+            }
+            targets[v][size[v]] = target;
+            weights[v][size[v]] = weight;
+            middles[v][size[v]] = middle;
+            size[v]++;
+        }
+
+        /** Remove the arc to a target by moving the last arc into its place. */
+        private void remove(int v, int target) {
+            for (int i = 0; i < size[v]; i++) {
+                if (targets[v][i] == target) {
+                    int last = --size[v];
+                    targets[v][i] = targets[v][last];
+                    weights[v][i] = weights[v][last];
+                    middles[v][i] = middles[v][last];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package algorithms.graph.shortestpath;
+
+import algorithms.graph.ParallelRange;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+import datastructures.list.IntArrayList;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** Parallel single‐source shortest paths using the delta‐stepping
+ algorithm of Meyer and Sanders. Tentative distances are grouped into
+ buckets of width delta. The vertices of the lowest non‐empty bucket are
+ settled together: their light edges (weight at most delta) are relaxed
+ in parallel until the bucket stops changing, and then their heavy edges
+ are relaxed once. A delta close to the smallest weight behaves like
+ Dijkstra's algorithm, a very large delta like Bellman‐Ford.
+ */
+public class DeltaStepping {
+
+    // Data Fields
+    /** The pool that runs the relaxations */
+    private final ForkJoinPool pool;
+    /** The bucket width */
+    private final double delta;
+
+    /**
+     * Create a shortest‐path solver.
+     *
+     * @param pool  The pool that runs the relaxations
+     * @param delta The bucket width
+     * @throws IllegalArgumentException if delta is not positive
+     */
+    public DeltaStepping(ForkJoinPool pool, double delta) {
+        if (!(delta > 0)) {
+            throw new IllegalArgumentException("Bucket width must be positive: " + delta);
+        }
+        this.pool = pool;
+        this.delta = delta;
+    }
+
+    /**
+     * Suggest a bucket width for a graph: the largest edge weight divided
+     * by the average degree, which is the width Meyer and Sanders
+     * recommend for random edge weights.
+     *
+     * @param graph The graph to be searched
+     * @return A positive bucket width
+     */
+    public static double suggestDelta(CsrGraph graph) {
+        double maxWeight = 0;
+        for (int i = 0; i < graph.getNumEdges(); i++) {
+            maxWeight = Math.max(maxWeight, graph.getWeight(i));
+        }
+        double averageDegree = Math.max(1.0, (double) graph.getNumEdges() / Math.max(1, graph.getNumV()));
+        double width = maxWeight / averageDegree;
+        return width > 0 ? width : 1.0;
+    }
+
+    /**
+     * Compute the shortest paths from a start vertex. The output has the
+     * same form as Dijkstra.dijkstrasAlgorithm. A graph that is not a
+     * CsrGraph is first copied into one.
+     *
+     * @param graph The weighted graph to be searched
+     * @param start The start vertex
+     * @param pred  Output array to contain the predecessors in the shortest path
+     * @param dist  Output array to contain the distance in the shortest path
+     * @throws IllegalArgumentException if a negative edge weight is found
+     */
+    public void shortestPaths(Graph graph, int start, int[] pred, double[] dist) {
+        CsrGraph csr = CsrGraph.copyOf(graph);
+        int numV = csr.getNumV();
+
+        // Non‐negative doubles compare like their bit patterns, so the
+        // tentative distances can be lowered with a long compare‐and‐set.
+        AtomicLongArray tentative = new AtomicLongArray(numV);
+        long infinity = Double.doubleToLongBits(Dijkstra.INFINITY);
+        for (int v = 0; v < numV; v++) {
+            tentative.set(v, infinity);
+        }
+        tentative.set(start, Double.doubleToLongBits(0.0));
+
+        TreeMap<Long, IntArrayList> buckets = new TreeMap<>();
+        IntArrayList first = new IntArrayList();
+        first.add(start);
+        buckets.put(0L, first);
+        int[] mark = new int[numV];
+        int stamp = 0;
+
+        // Main loop: settle the lowest non‐empty bucket.
+        while (!buckets.isEmpty()) {
+            Map.Entry<Long, IntArrayList> entry = buckets.pollFirstEntry();
+            long bucket = entry.getKey();
+            IntArrayList candidates = entry.getValue();
+            IntArrayList settled = new IntArrayList();
+            while (!candidates.isEmpty()) {
+                // Drop duplicates and vertices that moved to a lower bucket.
+                stamp++;
+                IntArrayList frontier = new IntArrayList(candidates.size());
+                for (int i = 0; i < candidates.size(); i++) {
+                    int v = candidates.get(i);
+                    if (mark[v] != stamp && bucketOf(tentative.get(v)) == bucket) {
+                        mark[v] = stamp;
+                        frontier.add(v);
+                        settled.add(v);
+                    }
+                }
+                IntArrayList improved = relax(csr, tentative, frontier, true);
+                candidates = new IntArrayList();
+                for (int i = 0; i < improved.size(); i++) {
+                    int v = improved.get(i);
+                    long target = bucketOf(tentative.get(v));
+                    if (target == bucket) {
+                        candidates.add(v);
+                    } else {
+                        buckets.computeIfAbsent(target, k -> new IntArrayList()).add(v);
+                    }
+                }
+            }
+            // The bucket is settled; its heavy edges only reach later buckets.
+            stamp++;
+            IntArrayList unique = new IntArrayList(settled.size());
+            for (int i = 0; i < settled.size(); i++) {
+                int v = settled.get(i);
+                if (mark[v] != stamp) {
+                    mark[v] = stamp;
+                    unique.add(v);
+                }
+            }
+            IntArrayList improved = relax(csr, tentative, unique, false);
+            for (int i = 0; i < improved.size(); i++) {
+                int v = improved.get(i);
+                buckets.computeIfAbsent(bucketOf(tentative.get(v)), k -> new IntArrayList()).add(v);
+            }
+        }
+
+        for (int v = 0; v < numV; v++) {
+            dist[v] = Double.longBitsToDouble(tentative.get(v));
+        }
+        buildPredecessors(csr, start, pred, dist);
+    }
+
+    /** Relax the light or the heavy edges of a set of vertices in parallel.
+     @param csr The graph
+     @param tentative The tentative distance bits
+     @param vertices The vertices whose edges are relaxed
+     @param light true to relax edges of weight at most delta, false
+     to relax the heavier ones
+     @return The vertices whose distance was lowered, possibly repeated
+     */
+    private IntArrayList relax(CsrGraph csr, AtomicLongArray tentative,
+                               IntArrayList vertices, boolean light) {
+        return ParallelRange.reduce(pool, 0, vertices.size(), (from, to) -> {
+            IntArrayList improved = new IntArrayList();
+            for (int i = from; i < to; i++) {
+                int u = vertices.get(i);
+                double du = Double.longBitsToDouble(tentative.get(u));
+                for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                    double weight = csr.getWeight(e);
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("Negative edge weight: "
+                                + u + " -> " + csr.getTarget(e) + " (" + weight + ")");
+                    }
+                    if ((weight <= delta) == light
+                            && lower(tentative, csr.getTarget(e), du + weight)) {
+                        improved.add(csr.getTarget(e));
+                    }
+                }
+            }
+            return improved;
+        }, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /** Atomically lower the tentative distance of a vertex.
+     @param tentative The tentative distance bits
+     @param v The vertex
+     @param newDist The candidate distance
+     @return true if the distance of v was lowered
+     */
+    private static boolean lower(AtomicLongArray tentative, int v, double newDist) {
+        long newBits = Double.doubleToLongBits(newDist);
+        long current = tentative.get(v);
+        while (newBits < current) {
+            if (tentative.compareAndSet(v, current, newBits)) {
+                return true;
+            }
+            current = tentative.get(v);
+        }
+        return false;
+    }
+
+    private long bucketOf(long distBits) {
+        return (long) (Double.longBitsToDouble(distBits) / delta);
+    }
+
+    /** Derive predecessors from the final distances. Every reachable
+     vertex other than start has an in‐edge (u, v) with
+     dist[u] + weight == dist[v]. Edges from a strictly closer vertex are
+     assigned in parallel; vertices reached only through zero‐weight
+     edges are then attached by a breadth‐first pass so that pred never
+     contains a cycle.
+     @param csr The graph
+     @param start The start vertex
+     @param pred Output array to contain the predecessors
+     @param dist The final distances
+     */
+    private void buildPredecessors(CsrGraph csr, int start, int[] pred, double[] dist) {
+        int numV = csr.getNumV();
+        for (int v = 0; v < numV; v++) {
+            pred[v] = Dijkstra.UNDEFINED;
+        }
+        ParallelRange.forEach(pool, 0, numV, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                if (dist[u] == Dijkstra.INFINITY) {
+                    continue;
+                }
+                for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                    int v = csr.getTarget(e);
+                    if (v != start && dist[u] < dist[v] && dist[u] + csr.getWeight(e) == dist[v]) {
+                        // Any tight edge will do, so racing writes are harmless.
+                        pred[v] = u;
+                    }
+                }
+            }
+        });
+
+        int unresolved = 0;
+        for (int v = 0; v < numV; v++) {
+            if (v != start && pred[v] == Dijkstra.UNDEFINED && dist[v] != Dijkstra.INFINITY) {
+                unresolved++;
+            }
+        }
+        if (unresolved == 0) {
+            return;
+        }
+        // Spread along tight zero‐weight edges from the resolved vertices.
+        int[] queue = new int[numV];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < numV; v++) {
+            if (v == start || pred[v] != Dijkstra.UNDEFINED) {
+                queue[tail++] = v;
+            }
+        }
+        while (head < tail && unresolved > 0) {
+            int u = queue[head++];
+            for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                int v = csr.getTarget(e);
+                if (v != start && pred[v] == Dijkstra.UNDEFINED && csr.getWeight(e) == 0
+                        && dist[u] == dist[v]) {
+                    pred[v] = u;
+                    queue[tail++] = v;
+                    unresolved--;
+                }
+            }
+        }
+    }
+}
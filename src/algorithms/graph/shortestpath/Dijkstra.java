@@ -1,8 +1,8 @@
 package algorithms.graph.shortestpath;
 
 import datastructures.graph.Graph;
-
-import java.util.HashSet;
+import datastructures.graph.IntDoubleConsumer;
+import datastructures.heap.IndexedMinHeap;
 
 public class Dijkstra {
 
@@ -18,45 +18,85 @@ public class Dijkstra {
      * @param dist  Output array to contain the distance in the shortest path
      */
     public static void dijkstrasAlgorithm(Graph graph, int start, int[] pred, double[] dist) {
+        shortestPath(graph, start, -1, pred, dist);
+    }
+
+    /**
+     * Dijkstra's Shortest‐Path algorithm that stops as soon as a target
+     * vertex is settled. Only the out‐edges of each settled vertex are
+     * relaxed, and the vertices of V–S are kept in an indexed min‐heap
+     * so that an improved distance is a decrease‐key instead of a scan,
+     * giving O((V + E) log V) time.
+     *
+     * @post pred and dist are final for every vertex settled before
+     * target; the remaining vertices hold tentative values.
+     * @param graph  The weighted graph to be searched
+     * @param start  The start vertex
+     * @param target The target vertex, or a negative value to settle
+     *               every reachable vertex
+     * @param pred   Output array to contain the predecessors in the shortest path
+     * @param dist   Output array to contain the distance in the shortest path
+     * @return The distance from start to target, or INFINITY if target
+     * is unreachable or negative
+     * @throws IllegalArgumentException if a negative edge weight is found
+     */
+    public static double shortestPath(Graph graph, int start, int target,
+                                      int[] pred, double[] dist) {
         int numV = graph.getNumV();
-        System.out.println(numV);
-        HashSet<Integer> vMinusS = new HashSet<>(numV);
 
         // Initialization.
         for (int v = 0; v < numV; v++) {
             dist[v] = INFINITY;
             pred[v] = UNDEFINED;
-            vMinusS.add(v);
         }
-
         dist[start] = 0;
 
+        IndexedMinHeap vMinusS = new IndexedMinHeap(numV);
+        vMinusS.add(start, 0);
+        Relaxation relaxation = new Relaxation(vMinusS, pred, dist);
+
         // Main loop
         while (!vMinusS.isEmpty()) {
-            // Find the value u in V–S with the smallest dist[u].
-            double minDist = INFINITY;
-            int u = UNDEFINED;
-
-            for (int v : vMinusS) {
-                if (dist[v] < minDist) {
-                    minDist = dist[v];
-                    u = v;
-                }
+            // Remove the value u in V–S with the smallest dist[u].
+            int u = vMinusS.remove();
+            if (u == target) {
+                break;
             }
+            // Update the distances of the neighbors of u.
+            relaxation.settled = u;
+            graph.forEachNeighbor(u, relaxation);
+        }
+        return target < 0 ? INFINITY : dist[target];
+    }
+
+    /** Relaxes the edges of the most recently settled vertex. A vertex
+     that is already settled can never be improved with non‐negative
+     weights, so no separate set S is needed.
+     */
+    private static class Relaxation implements IntDoubleConsumer {
+        private final IndexedMinHeap vMinusS;
+        private final int[] pred;
+        private final double[] dist;
+        private int settled;
 
-            // Remove u from vMinusS
-            vMinusS.remove(u);
-
-            // Update the distances.
-            for (int v : vMinusS) {
-                if (graph.isEdge(u, v)) {
-                    double weight = graph.getEdge(u, v).getWeight();
-                    if (dist[u] + weight < dist[v]) {
-                        dist[v] = dist[u] + weight;
-                        pred[v] = u;
-                    }
-                }
+        private Relaxation(IndexedMinHeap vMinusS, int[] pred, double[] dist) {
+            this.vMinusS = vMinusS;
+            this.pred = pred;
+            this.dist = dist;
+        }
+
+        @Override
+        public void accept(int v, double weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative edge weight: "
+                        + settled + " -> " + v + " (" + weight + ")");
+            }
+            double newDist = dist[settled] + weight;
+            if (newDist < dist[v]) {
+                dist[v] = newDist;
+                pred[v] = settled;
+                vMinusS.addOrDecreaseKey(v, newDist);
             }
         }
     }
-}
\ No newline at end of file
+}
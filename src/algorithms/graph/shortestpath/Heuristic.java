@@ -0,0 +1,24 @@
+package algorithms.graph.shortestpath;
+
+/** A lower bound on the distance between two vertices, used by A* search
+ to settle the vertices that lead towards the target first. A heuristic
+ that never overestimates (is admissible) makes A* return shortest
+ paths; one that is also consistent, so that estimate(u, t) is at most
+ w(u, v) + estimate(v, t) for every edge (u, v), lets every vertex be
+ settled only once.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /** The heuristic that always estimates 0, with which A* search
+     behaves like Dijkstra's algorithm. */
+    Heuristic ZERO = (vertex, target) -> 0;
+
+    /** Estimate the distance from a vertex to the target.
+     @param vertex The vertex
+     @param target The target vertex
+     @return A lower bound on the distance from vertex to target; it may
+     be Double.POSITIVE_INFINITY if target is known to be unreachable
+     */
+    double estimate(int vertex, int target);
+}
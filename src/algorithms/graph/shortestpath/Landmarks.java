@@ -0,0 +1,104 @@
+package algorithms.graph.shortestpath;
+
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+
+/** The ALT heuristic (A*, landmarks and the triangle inequality) of
+ Goldberg and Harrelson. The distances from and to a few landmark
+ vertices are computed once. For a landmark L the triangle inequality
+ gives d(v, t) ≥ d(L, t) − d(L, v) and d(v, t) ≥ d(v, L) − d(t, L), and
+ the largest of these bounds is the estimate. Landmarks on the far side
+ of the graph give the tightest bounds, so they are chosen one at a time
+ as the vertex farthest from the landmarks chosen so far.
+ */
+public class Landmarks implements Heuristic {
+
+    // Data Fields
+    /** The landmark vertices */
+    private final int[] landmarks;
+    /** The distance from each landmark to each vertex */
+    private final double[][] from;
+    /** The distance from each vertex to each landmark; the same arrays
+     as from when the graph is undirected */
+    private final double[][] to;
+
+    /**
+     * Choose landmarks for a graph and compute their distances. The
+     * first landmark is the vertex farthest from vertex 0.
+     *
+     * @param graph The weighted graph
+     * @param count The number of landmarks
+     * @throws IllegalArgumentException if count is not positive or a
+     *                                  negative edge weight is found
+     */
+    public Landmarks(Graph graph, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Need at least one landmark: " + count);
+        }
+        int numV = graph.getNumV();
+        CsrGraph forward = CsrGraph.copyOf(graph);
+        CsrGraph reverse = forward.transpose();
+        int[] pred = new int[numV];
+        landmarks = new int[count];
+        from = new double[count][];
+        to = graph.isDirected() ? new double[count][] : from;
+
+        double[] nearest = new double[numV];
+        Dijkstra.dijkstrasAlgorithm(forward, 0, pred, nearest);
+        for (int i = 0; i < count; i++) {
+            int landmark = farthest(nearest);
+            landmarks[i] = landmark;
+            from[i] = new double[numV];
+            Dijkstra.dijkstrasAlgorithm(forward, landmark, pred, from[i]);
+            if (graph.isDirected()) {
+                to[i] = new double[numV];
+                Dijkstra.dijkstrasAlgorithm(reverse, landmark, pred, to[i]);
+            }
+            for (int v = 0; v < numV; v++) {
+                nearest[v] = i == 0 ? from[i][v] : Math.min(nearest[v], from[i][v]);
+            }
+        }
+    }
+
+    /**
+     * Return the landmark vertices.
+     *
+     * @return The landmarks in the order they were chosen
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public double estimate(int vertex, int target) {
+        double best = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            // A bound of ∞ − ∞ is NaN and fails both comparisons.
+            double bound = from[i][target] - from[i][vertex];
+            if (bound > best) {
+                best = bound;
+            }
+            bound = to[i][vertex] - to[i][target];
+            if (bound > best) {
+                best = bound;
+            }
+        }
+        return best;
+    }
+
+    /** Return the vertex with the largest finite distance.
+     @param dist The distances
+     @return The farthest reachable vertex, or 0 if there is none
+     */
+    private static int farthest(double[] dist) {
+        int best = 0;
+        double bestDist = -1;
+        for (int v = 0; v < dist.length; v++) {
+            if (dist[v] < Dijkstra.INFINITY && dist[v] > bestDist) {
+                best = v;
+                bestDist = dist[v];
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,258 @@
+package algorithms.graph.shortestpath;
+
+import datastructures.graph.AbstractGraph;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Remembers the shortest‐path trees computed by Dijkstra's algorithm so
+ that repeated queries from the same source are answered without a new
+ search. A tree is stored compactly as a float distance and an int
+ predecessor per vertex, eight bytes per vertex instead of twelve.
+
+ Trees are evicted in least recently used order to stay within a memory
+ budget. Each tree belongs to the modification count the graph had
+ before it was computed; when getModCount() of the graph changes, every
+ stored tree is discarded on the next query. Queries may come from
+ several threads: a missing tree is computed outside the lock, so two
+ threads asking for the same source may both compute it.
+ */
+public class ShortestPathCache {
+
+    /** The estimated bytes used by a tree besides its arrays */
+    static final long TREE_OVERHEAD = 96;
+
+    /** A shortest‐path tree from one source. */
+    public static class Tree {
+        private final int source;
+        private final float[] dist;
+        private final int[] pred;
+
+        private Tree(int source, float[] dist, int[] pred) {
+            this.source = source;
+            this.dist = dist;
+            this.pred = pred;
+        }
+
+        /** @return The source vertex */
+        public int getSource() {
+            return source;
+        }
+
+        /** Return the length of a shortest path, rounded to float.
+         @param dest The destination vertex
+         @return The distance, or Dijkstra.INFINITY if dest is unreachable
+         */
+        public double getDistance(int dest) {
+            return dist[dest];
+        }
+
+        /** Return the vertex before dest on a shortest path.
+         @param dest The destination vertex
+         @return The predecessor, or Dijkstra.UNDEFINED for the source and
+         for unreachable vertices
+         */
+        public int getPredecessor(int dest) {
+            return pred[dest];
+        }
+
+        /** Reconstruct a shortest path by following the predecessors.
+         @param dest The destination vertex
+         @return The vertices of the path, from the source to dest, or null
+         if dest is unreachable
+         */
+        public int[] path(int dest) {
+            if (dist[dest] == Float.POSITIVE_INFINITY) {
+                return null;
+            }
+            int length = 1;
+            for (int v = dest; v != source; v = pred[v]) {
+                length++;
+            }
+            int[] path = new int[length];
+            for (int i = length - 1, v = dest; i >= 0; i--, v = pred[v]) {
+                path[i] = v;
+            }
+            return path;
+        }
+
+        /** Copy the tree into the output arrays of
+         Dijkstra.dijkstrasAlgorithm.
+         @param pred Output array to contain the predecessors
+         @param dist Output array to contain the distances
+         */
+        public void copyTo(int[] pred, double[] dist) {
+            System.arraycopy(this.pred, 0, pred, 0, this.pred.length);
+            for (int v = 0; v < this.dist.length; v++) {
+                dist[v] = this.dist[v];
+            }
+        }
+
+        /** @return The estimated number of bytes used by the tree */
+        long getSizeInBytes() {
+            return TREE_OVERHEAD + 4L * dist.length + 4L * pred.length;
+        }
+    }
+
+    // Data Fields
+    /** The graph being searched */
+    private final AbstractGraph graph;
+    /** The largest number of bytes the trees may use */
+    private final long budget;
+    /** The trees by source, in least recently used order */
+    private final LinkedHashMap<Integer, Tree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    /** The modification count of the graph that the trees belong to */
+    private int version;
+    /** The estimated number of bytes used by the trees */
+    private long sizeInBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * Create an empty cache for a graph.
+     *
+     * @param graph  The weighted graph to be searched
+     * @param budget The largest number of bytes the stored trees may use
+     * @throws IllegalArgumentException if budget is negative
+     */
+    public ShortestPathCache(AbstractGraph graph, long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Negative memory budget: " + budget);
+        }
+        this.graph = graph;
+        this.budget = budget;
+        this.version = graph.getModCount();
+    }
+
+    /**
+     * Return the shortest‐path tree from a source vertex, computing it
+     * with Dijkstra's algorithm if it is not stored.
+     *
+     * @param source The source vertex
+     * @return The tree
+     * @throws IllegalArgumentException if source is not a vertex or a
+     *                                  negative edge weight is found
+     */
+    public Tree get(int source) {
+        int numV = graph.getNumV();
+        if (source < 0 || source >= numV) {
+            throw new IllegalArgumentException("Invalid source vertex: " + source);
+        }
+        // The count is read before searching, so a tree that may have seen
+        // a later insert is stored under an older count and soon discarded.
+        int current;
+        synchronized (this) {
+            validate();
+            current = version;
+            Tree tree = trees.get(source);
+            if (tree != null) {
+                hits++;
+                return tree;
+            }
+            misses++;
+        }
+        int[] pred = new int[numV];
+        double[] dist = new double[numV];
+        Dijkstra.dijkstrasAlgorithm(graph, source, pred, dist);
+        float[] compact = new float[numV];
+        for (int v = 0; v < numV; v++) {
+            compact[v] = (float) dist[v];
+        }
+        Tree tree = new Tree(source, compact, pred);
+        synchronized (this) {
+            if (version == current && tree.getSizeInBytes() <= budget) {
+                Tree old = trees.put(source, tree);
+                if (old != null) {
+                    sizeInBytes -= old.getSizeInBytes();
+                }
+                sizeInBytes += tree.getSizeInBytes();
+                evict(source);
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Dijkstra's Shortest‐Path algorithm answered from the cache. The
+     * distances are those of the stored tree, rounded to float.
+     *
+     * @param start The start vertex
+     * @param pred  Output array to contain the predecessors in the shortest path
+     * @param dist  Output array to contain the distance in the shortest path
+     * @throws IllegalArgumentException if start is not a vertex or a
+     *                                  negative edge weight is found
+     */
+    public void dijkstrasAlgorithm(int start, int[] pred, double[] dist) {
+        get(start).copyTo(pred, dist);
+    }
+
+    /** Discard every stored tree. The discarded trees are not counted as
+     evictions or invalidations.
+     */
+    public synchronized void clear() {
+        trees.clear();
+        sizeInBytes = 0;
+    }
+
+    /** @return The number of queries answered by a stored tree */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /** @return The number of queries that required a search */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /** @return The number of trees removed to stay within the budget */
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /** @return The number of trees discarded because the graph changed */
+    public synchronized long getInvalidationCount() {
+        return invalidations;
+    }
+
+    /** @return The number of trees stored */
+    public synchronized int size() {
+        return trees.size();
+    }
+
+    /** @return The estimated number of bytes used by the stored trees */
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /** Discard every tree if the graph has changed since they were
+     computed.
+     */
+    private void validate() {
+        int current = graph.getModCount();
+        if (current != version) {
+            invalidations += trees.size();
+            trees.clear();
+            sizeInBytes = 0;
+            version = current;
+        }
+    }
+
+    /** Remove the least recently used trees until the budget is met,
+     keeping the tree that was just stored.
+     @param keep The source of the tree just stored
+     */
+    private void evict(int keep) {
+        Iterator<Map.Entry<Integer, Tree>> iter = trees.entrySet().iterator();
+        while (sizeInBytes > budget && iter.hasNext()) {
+            Map.Entry<Integer, Tree> entry = iter.next();
+            if (entry.getKey() != keep) {
+                sizeInBytes -= entry.getValue().getSizeInBytes();
+                iter.remove();
+                evictions++;
+            }
+        }
+    }
+}
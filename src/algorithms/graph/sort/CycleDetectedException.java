@@ -0,0 +1,27 @@
+package algorithms.graph.sort;
+
+import java.util.Arrays;
+
+/** Thrown when a graph that must be acyclic contains a cycle. The
+ exception carries the vertices of one such cycle.
+ */
+public class CycleDetectedException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    /** The vertices of the cycle in edge order */
+    private final int[] cycle;
+
+    /** Creates an exception for a cycle.
+     @param cycle The vertices of the cycle; there is an edge from each
+     vertex to the next and from the last vertex to the first
+     */
+    public CycleDetectedException(int[] cycle) {
+        super("Graph contains a cycle: " + Arrays.toString(cycle));
+        this.cycle = cycle;
+    }
+
+    /** @return The vertices of the cycle in edge order */
+    public int[] getCycle() {
+        return cycle;
+    }
+}
@@ -1,14 +1,20 @@
 package algorithms.graph.sort;
 
-import algorithms.graph.search.DepthFirstSearch;
+import algorithms.graph.ParallelRange;
 import datastructures.graph.AbstractGraph;
+import datastructures.graph.CsrGraph;
 import datastructures.graph.Graph;
+import datastructures.list.IntArrayList;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
-/** This program outputs the topological sort of a directed graph
- that contains no cycles.
+/** Topological sort of a directed graph using Kahn's algorithm: a vertex
+ is output once all of its predecessors have been output. If some
+ vertices can never be output the graph has a cycle, which is reported
+ through a CycleDetectedException.
  */
 public class TopologicalSort {
     /**
@@ -16,25 +22,185 @@ public class TopologicalSort {
      *
      * @param args The command line arguments
      * @pre arg[0] contains the name of the file
-     * that contains the graph. It has no cycles.
+     * that contains the graph.
      */
     public static void main(String[] args) {
         Graph theGraph = null;
-        int numVertices = 0;
         try {
             // Connect Scanner to input file.
             Scanner scan = new Scanner(new File(args[0]));
             // Load the graph data from a file.
-            theGraph = AbstractGraph.createGraph(scan, true, "List");
-            numVertices = theGraph.getNumV();
+            theGraph = AbstractGraph.createGraph(scan, true, "CSR");
         } catch (Exception ex) {
             ex.printStackTrace();
             System.exit(1);
             // Error exit.
         }
-        // Perform the depth‐first search.
-        DepthFirstSearch.depthFirstSearch(theGraph, 0);
+        try {
+            for (int vertex : topologicalSort(theGraph)) {
+                System.out.print(vertex + "\t");
+            }
+            System.out.println();
+        } catch (CycleDetectedException ex) {
+            System.err.println(ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Return the vertices of a directed acyclic graph in topological order,
+     * so that every edge leads from an earlier vertex to a later one.
+     *
+     * @param graph The directed graph to be sorted
+     * @return The vertices in topological order
+     * @throws CycleDetectedException if the graph contains a cycle
+     * @throws IllegalArgumentException if the graph is undirected
+     */
+    public static int[] topologicalSort(Graph graph) {
+        CsrGraph csr = directedSnapshot(graph);
+        int numV = csr.getNumV();
+        int[] inDegree = inDegrees(csr);
+
+        // The order array doubles as the queue of ready vertices.
+        int[] order = new int[numV];
+        int tail = 0;
+        for (int v = 0; v < numV; v++) {
+            if (inDegree[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+            for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                int v = csr.getTarget(e);
+                if (--inDegree[v] == 0) {
+                    order[tail++] = v;
+                }
+            }
+        }
+        if (tail < numV) {
+            boolean[] done = new boolean[numV];
+            for (int i = 0; i < tail; i++) {
+                done[order[i]] = true;
+            }
+            throw new CycleDetectedException(findCycle(csr, done));
+        }
+        return order;
+    }
+
+    /**
+     * Group the vertices of a directed acyclic graph into waves. The first
+     * wave holds the vertices without predecessors, and each later wave the
+     * vertices whose predecessors all lie in earlier waves, so the vertices
+     * of one wave can be processed concurrently. Each wave is peeled in
+     * parallel and returned in increasing vertex order.
+     *
+     * @param graph The directed graph to be sorted
+     * @param pool  The pool that peels each wave
+     * @return The waves in order
+     * @throws CycleDetectedException if the graph contains a cycle
+     * @throws IllegalArgumentException if the graph is undirected
+     */
+    public static int[][] topologicalWaves(Graph graph, ForkJoinPool pool) {
+        CsrGraph csr = directedSnapshot(graph);
+        int numV = csr.getNumV();
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(inDegrees(csr));
+
+        List<int[]> waves = new ArrayList<>();
+        IntArrayList ready = ParallelRange.reduce(pool, 0, numV, (from, to) -> {
+            IntArrayList sources = new IntArrayList();
+            for (int v = from; v < to; v++) {
+                if (inDegree.get(v) == 0) {
+                    sources.add(v);
+                }
+            }
+            return sources;
+        }, TopologicalSort::concat);
+        int numSorted = 0;
+        while (!ready.isEmpty()) {
+            int[] wave = ready.toArray();
+            Arrays.sort(wave);
+            waves.add(wave);
+            numSorted += wave.length;
+            // The last predecessor to be removed releases a vertex.
+            ready = ParallelRange.reduce(pool, 0, wave.length, (from, to) -> {
+                IntArrayList released = new IntArrayList();
+                for (int i = from; i < to; i++) {
+                    int u = wave[i];
+                    for (int e = csr.edgeStart(u); e < csr.edgeEnd(u); e++) {
+                        int v = csr.getTarget(e);
+                        if (inDegree.decrementAndGet(v) == 0) {
+                            released.add(v);
+                        }
+                    }
+                }
+                return released;
+            }, TopologicalSort::concat);
+        }
+        if (numSorted < numV) {
+            boolean[] done = new boolean[numV];
+            for (int[] wave : waves) {
+                for (int v : wave) {
+                    done[v] = true;
+                }
+            }
+            throw new CycleDetectedException(findCycle(csr, done));
+        }
+        return waves.toArray(new int[0][]);
+    }
+
+    private static CsrGraph directedSnapshot(Graph graph) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("Topological sort requires a directed graph");
+        }
+        return CsrGraph.copyOf(graph);
+    }
+
+    private static int[] inDegrees(CsrGraph csr) {
+        int[] inDegree = new int[csr.getNumV()];
+        for (int e = 0; e < csr.getNumEdges(); e++) {
+            inDegree[csr.getTarget(e)]++;
+        }
+        return inDegree;
+    }
+
+    /** Find a cycle among the vertices that Kahn's algorithm could not
+     output. Each of them still has a predecessor that was not output
+     either, so walking backwards along such predecessors must repeat a
+     vertex.
+     @param csr The graph
+     @param done Marks the vertices that were output
+     @return The vertices of a cycle in edge order
+     */
+    private static int[] findCycle(CsrGraph csr, boolean[] done) {
+        CsrGraph reverse = csr.transpose();
+        int numV = csr.getNumV();
+        int[] step = new int[numV];
+        Arrays.fill(step, -1);
+        IntArrayList walk = new IntArrayList();
+        int v = 0;
+        while (done[v]) {
+            v++;
+        }
+        while (step[v] < 0) {
+            step[v] = walk.size();
+            walk.add(v);
+            int e = reverse.edgeStart(v);
+            while (done[reverse.getTarget(e)]) {
+                e++;
+            }
+            v = reverse.getTarget(e);
+        }
+        // The walk follows edges backwards, so reverse the closed part.
+        int[] cycle = new int[walk.size() - step[v]];
+        for (int i = 0; i < cycle.length; i++) {
+            cycle[i] = walk.get(walk.size() - 1 - i);
+        }
+        return cycle;
+    }
 
-        // Topological Sort is the reverse of finish order in dfs. Please update the print statements in the dfs to view topological sort.
+    private static IntArrayList concat(IntArrayList left, IntArrayList right) {
+        left.addAll(right);
+        return left;
     }
 }
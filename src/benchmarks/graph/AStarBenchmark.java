@@ -0,0 +1,89 @@
+package benchmarks.graph;
+
+import algorithms.graph.shortestpath.AStar;
+import algorithms.graph.shortestpath.Dijkstra;
+import algorithms.graph.shortestpath.Heuristic;
+import algorithms.graph.shortestpath.Landmarks;
+import datastructures.graph.CsrGraph;
+
+import java.util.Random;
+
+/** Measures the latency of point‐to‐point queries between random vertex
+ pairs of a grid, which stands in for a road network. Plain Dijkstra
+ settles the whole graph, Dijkstra with a target stops when the target
+ is settled, and A* is run with the zero heuristic and with ALT.
+ Usage: AStarBenchmark [rows] [cols] [queries] [landmarks]
+ */
+public class AStarBenchmark {
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int count = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+
+        CsrGraph graph = RandomGraphs.grid(rows, cols, 100.0, 42);
+        int numV = graph.getNumV();
+        System.out.println("Vertices: " + numV + "\tEdges: " + graph.getNumEdges());
+
+        long begin = System.nanoTime();
+        Landmarks landmarks = new Landmarks(graph, count);
+        System.out.printf("Landmark preprocessing (%d)\t%.1f ms%n", count,
+                (System.nanoTime() - begin) / 1e6);
+
+        Random random = new Random(7);
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = random.nextInt(numV);
+            targets[q] = random.nextInt(numV);
+        }
+        int[] pred = new int[numV];
+        double[] dist = new double[numV];
+        double[] expected = new double[queries];
+
+        // One untimed pass warms up each method and records the answers.
+        for (int q = 0; q < queries; q++) {
+            Dijkstra.dijkstrasAlgorithm(graph, sources[q], pred, dist);
+            expected[q] = dist[targets[q]];
+        }
+        long time = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            Dijkstra.dijkstrasAlgorithm(graph, sources[q], pred, dist);
+        }
+        report("Dijkstra (all vertices)", time, queries);
+
+        time = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            check(Dijkstra.shortestPath(graph, sources[q], targets[q], pred, dist), expected[q]);
+        }
+        report("Dijkstra (to target)", time, queries);
+
+        run("A* (zero heuristic)", graph, Heuristic.ZERO, sources, targets, expected, pred, dist);
+        run("A* (ALT)", graph, landmarks, sources, targets, expected, pred, dist);
+    }
+
+    private static void run(String name, CsrGraph graph, Heuristic heuristic, int[] sources,
+                            int[] targets, double[] expected, int[] pred, double[] dist) {
+        int queries = sources.length;
+        for (int q = 0; q < queries; q++) {
+            AStar.shortestPath(graph, sources[q], targets[q], heuristic, pred, dist);
+        }
+        long time = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            check(AStar.shortestPath(graph, sources[q], targets[q], heuristic, pred, dist),
+                    expected[q]);
+        }
+        report(name, time, queries);
+    }
+
+    private static void check(double actual, double expected) {
+        if (Math.abs(actual - expected) > 1e-9 * Math.max(1, expected)) {
+            throw new IllegalStateException("Distance " + actual + " differs from " + expected);
+        }
+    }
+
+    private static void report(String name, long begin, int queries) {
+        System.out.printf("%-24s %8.3f ms/query%n", name, (System.nanoTime() - begin) / 1e6 / queries);
+    }
+}
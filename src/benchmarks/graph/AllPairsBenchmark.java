@@ -0,0 +1,66 @@
+package benchmarks.graph;
+
+import algorithms.graph.shortestpath.AllPairsShortestPaths;
+import algorithms.graph.shortestpath.Dijkstra;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Edge;
+import datastructures.graph.MatrixGraph;
+
+import java.util.concurrent.ForkJoinPool;
+
+/** Compares the all‐pairs methods with calling Dijkstra's algorithm once
+ per source on a sparse random graph, and runs the blocked
+ Floyd‐Warshall algorithm on the same edges in a MatrixGraph.
+ Usage: AllPairsBenchmark [numV] [degree] [threads]
+ */
+public class AllPairsBenchmark {
+
+    public static void main(String[] args) {
+        int numV = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int threads = args.length > 2 ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+
+        CsrGraph graph = RandomGraphs.uniform(numV, degree, 100.0, true, 42);
+        MatrixGraph matrix = new MatrixGraph(numV, true);
+        for (int v = 0; v < numV; v++) {
+            final int source = v;
+            // A matrix holds one edge per pair, so keep the lightest.
+            graph.forEachNeighbor(v, (dest, weight) -> {
+                if (weight < matrix.getWeight(source, dest)) {
+                    matrix.insert(new Edge(source, dest, weight));
+                }
+            });
+        }
+        System.out.println("Vertices: " + numV + "\tEdges: " + graph.getNumEdges()
+                + "\tThreads: " + threads);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        int[] pred = new int[numV];
+        double[] dist = new double[numV];
+        long begin = System.nanoTime();
+        for (int source = 0; source < numV; source++) {
+            Dijkstra.dijkstrasAlgorithm(graph, source, pred, dist);
+        }
+        System.out.printf("Dijkstra per source\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+
+        begin = System.nanoTime();
+        AllPairsShortestPaths.DistanceMatrix sparse = AllPairsShortestPaths.repeatedDijkstra(graph, pool);
+        System.out.printf("Repeated Dijkstra\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+
+        begin = System.nanoTime();
+        AllPairsShortestPaths.DistanceMatrix dense = AllPairsShortestPaths.floydWarshall(matrix, pool);
+        System.out.printf("Blocked Floyd-Warshall\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+        pool.shutdown();
+
+        for (int u = 0; u < numV; u += Math.max(1, numV / 50)) {
+            for (int v = 0; v < numV; v++) {
+                double a = sparse.getDistance(u, v);
+                double b = dense.getDistance(u, v);
+                if (a != b && Math.abs(a - b) > 1e-9 * Math.max(1, a)) {
+                    throw new IllegalStateException("Distances differ for " + u + " -> " + v);
+                }
+            }
+        }
+    }
+}
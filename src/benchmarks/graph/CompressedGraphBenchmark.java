@@ -0,0 +1,68 @@
+package benchmarks.graph;
+
+import algorithms.graph.ordering.VertexReordering;
+import datastructures.graph.CompressedGraph;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Graph;
+
+/** Compares the size and breadth‐first search time of a CompressedGraph
+ with those of a CsrGraph on an R‐MAT graph, both with the generated
+ vertex numbers and after renumbering in breadth‐first order.
+ Usage: CompressedGraphBenchmark [scale] [edgeFactor] [repetitions]
+ */
+public class CompressedGraphBenchmark {
+
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int edgeFactor = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        CsrGraph graph = RandomGraphs.rmat(scale, edgeFactor, 42);
+        System.out.println("Vertices: " + graph.getNumV() + "\tEdges: " + graph.getNumEdges());
+        run("generated order", graph, repetitions);
+        run("BFS order", VertexReordering.relabel(graph, VertexReordering.bfsOrder(graph, 0)),
+                repetitions);
+    }
+
+    private static void run(String name, CsrGraph graph, int repetitions) {
+        CompressedGraph compressed = CompressedGraph.copyOf(graph);
+        // A CsrGraph holds a target and a weight per edge and an offset per vertex.
+        long csrBytes = 12L * graph.getNumEdges() + 4L * (graph.getNumV() + 1);
+        double csrMillis = DeltaSteppingBenchmark.median(repetitions, () -> search(graph));
+        double compressedMillis = DeltaSteppingBenchmark.median(repetitions, () -> search(compressed));
+        System.out.printf("%-16s CSR %.2f bytes/edge %8.1f ms\tcompressed %.2f bytes/edge %8.1f ms%n",
+                name, (double) csrBytes / graph.getNumEdges(), csrMillis,
+                (double) compressed.getSizeInBytes() / graph.getNumEdges(), compressedMillis);
+    }
+
+    /** Search breadth‐first from every unreached vertex in turn.
+     @return The number of vertices reached from vertex 0
+     */
+    private static int search(Graph graph) {
+        int numV = graph.getNumV();
+        boolean[] visited = new boolean[numV];
+        int[] queue = new int[numV];
+        int[] tail = new int[1];
+        int reached = 0;
+        for (int start = 0; start < numV; start++) {
+            if (visited[start]) {
+                continue;
+            }
+            visited[start] = true;
+            queue[tail[0]++] = start;
+            int head = tail[0] - 1;
+            while (head < tail[0]) {
+                graph.forEachNeighbor(queue[head++], (dest, weight) -> {
+                    if (!visited[dest]) {
+                        visited[dest] = true;
+                        queue[tail[0]++] = dest;
+                    }
+                });
+            }
+            if (start == 0) {
+                reached = tail[0];
+            }
+        }
+        return reached;
+    }
+}
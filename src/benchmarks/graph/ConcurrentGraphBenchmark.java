@@ -0,0 +1,101 @@
+package benchmarks.graph;
+
+import datastructures.graph.ConcurrentListGraph;
+import datastructures.graph.Edge;
+import datastructures.graph.Graph;
+import datastructures.graph.ListGraph;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Measures insert and read throughput with writers and readers running
+ at the same time, comparing a ConcurrentListGraph against a ListGraph
+ guarded by one global lock.
+ Usage: ConcurrentGraphBenchmark [numV] [writers] [readers] [seconds]
+ */
+public class ConcurrentGraphBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int numV = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int writers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int readers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        double seconds = args.length > 3 ? Double.parseDouble(args[3]) : 5;
+        System.out.println("Vertices: " + numV + "\tWriters: " + writers
+                + "\tReaders: " + readers + "\tSeconds: " + seconds);
+
+        ListGraph listGraph = new ListGraph(numV, false);
+        run("ListGraph (global lock)", listGraph, true, writers, readers, seconds);
+        ConcurrentListGraph concurrentGraph = new ConcurrentListGraph(numV, false);
+        run("ConcurrentListGraph", concurrentGraph, false, writers, readers, seconds);
+    }
+
+    /** Run writers and readers on a graph for a fixed time and print
+     their throughput.
+     @param name The label to print
+     @param graph The graph
+     @param globalLock true to synchronize every access on the graph
+     @param writers The number of inserting threads
+     @param readers The number of reading threads
+     @param seconds The duration of the run
+     */
+    private static void run(String name, Graph graph, boolean globalLock,
+                            int writers, int readers, double seconds)
+            throws InterruptedException {
+        AtomicBoolean stop = new AtomicBoolean();
+        LongAdder inserts = new LongAdder();
+        LongAdder reads = new LongAdder();
+        LongAdder edgesRead = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[writers + readers];
+        int numV = graph.getNumV();
+        for (int t = 0; t < threads.length; t++) {
+            final boolean writer = t < writers;
+            final long seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                long[] count = new long[1];
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (!stop.get()) {
+                    int source = random.nextInt(numV);
+                    if (writer) {
+                        Edge edge = new Edge(source, random.nextInt(numV), random.nextDouble());
+                        if (globalLock) {
+                            synchronized (graph) {
+                                graph.insert(edge);
+                            }
+                        } else {
+                            graph.insert(edge);
+                        }
+                        inserts.increment();
+                    } else {
+                        count[0] = 0;
+                        if (globalLock) {
+                            synchronized (graph) {
+                                graph.forEachNeighbor(source, (dest, weight) -> count[0]++);
+                            }
+                        } else {
+                            graph.forEachNeighbor(source, (dest, weight) -> count[0]++);
+                        }
+                        reads.increment();
+                        edgesRead.add(count[0]);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        Thread.sleep((long) (seconds * 1000));
+        stop.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.printf("%-26s inserts/s %,12.0f\treads/s %,12.0f\tedges read/s %,14.0f%n",
+                name, inserts.sum() / seconds, reads.sum() / seconds, edgesRead.sum() / seconds);
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks.graph;
+
+import algorithms.graph.shortestpath.BidirectionalDijkstra;
+import algorithms.graph.shortestpath.ContractionHierarchy;
+import datastructures.graph.CsrGraph;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/** Measures contraction hierarchy preprocessing, a save and load round
+ trip, and the latency of queries between random vertex pairs of a grid,
+ using bidirectional Dijkstra as the baseline.
+ Usage: ContractionHierarchyBenchmark [rows] [cols] [queries]
+ */
+public class ContractionHierarchyBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        CsrGraph graph = RandomGraphs.grid(rows, cols, 100.0, 42);
+        int numV = graph.getNumV();
+        System.out.println("Vertices: " + numV + "\tEdges: " + graph.getNumEdges());
+
+        long begin = System.nanoTime();
+        ContractionHierarchy built = ContractionHierarchy.build(graph);
+        System.out.printf("Preprocessing\t%.1f ms\tshortcuts %d%n",
+                (System.nanoTime() - begin) / 1e6, built.getNumShortcuts());
+
+        Path file = Files.createTempFile("hierarchy", ".ch");
+        begin = System.nanoTime();
+        built.save(file);
+        ContractionHierarchy hierarchy = ContractionHierarchy.load(file);
+        System.out.printf("Save and load\t%.1f ms\t%d bytes%n",
+                (System.nanoTime() - begin) / 1e6, Files.size(file));
+        Files.delete(file);
+
+        Random random = new Random(7);
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = random.nextInt(numV);
+            targets[q] = random.nextInt(numV);
+        }
+        BidirectionalDijkstra bidirectional = new BidirectionalDijkstra(graph);
+        double[] expected = new double[queries];
+        for (int q = 0; q < queries; q++) {
+            expected[q] = bidirectional.distance(sources[q], targets[q]);
+            hierarchy.distance(sources[q], targets[q]);
+        }
+
+        long time = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            bidirectional.distance(sources[q], targets[q]);
+        }
+        report("Bidirectional Dijkstra", time, queries);
+
+        time = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            double actual = hierarchy.distance(sources[q], targets[q]);
+            if (Math.abs(actual - expected[q]) > 1e-9 * Math.max(1, expected[q])) {
+                throw new IllegalStateException("Distance " + actual + " differs from " + expected[q]);
+            }
+        }
+        report("Contraction hierarchy", time, queries);
+
+        time = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            hierarchy.path(sources[q], targets[q]);
+        }
+        report("CH with path unpacking", time, queries);
+    }
+
+    private static void report(String name, long begin, int queries) {
+        System.out.printf("%-24s %8.3f ms/query%n", name, (System.nanoTime() - begin) / 1e6 / queries);
+    }
+}
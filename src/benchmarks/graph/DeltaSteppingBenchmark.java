@@ -0,0 +1,70 @@
+package benchmarks.graph;
+
+import algorithms.graph.shortestpath.DeltaStepping;
+import algorithms.graph.shortestpath.Dijkstra;
+import datastructures.graph.CsrGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/** Measures how delta‐stepping scales from 1 to N threads on a random
+ graph, using Dijkstra's algorithm as the sequential baseline.
+ Usage: DeltaSteppingBenchmark [numV] [degree] [repetitions] [maxThreads]
+ */
+public class DeltaSteppingBenchmark {
+
+    public static void main(String[] args) {
+        int numV = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int maxThreads = args.length > 3 ? Integer.parseInt(args[3])
+                : Runtime.getRuntime().availableProcessors();
+
+        CsrGraph graph = RandomGraphs.uniform(numV, degree, 100.0, true, 42);
+        double delta = DeltaStepping.suggestDelta(graph);
+        System.out.println("Vertices: " + numV + "\tEdges: " + graph.getNumEdges()
+                + "\tDelta: " + delta);
+
+        int[] pred = new int[numV];
+        double[] expected = new double[numV];
+        double[] dist = new double[numV];
+        double baseline = median(repetitions, () -> Dijkstra.dijkstrasAlgorithm(graph, 0, pred, expected));
+        System.out.printf("Dijkstra\t%.1f ms%n", baseline);
+
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            DeltaStepping solver = new DeltaStepping(pool, delta);
+            double millis = median(repetitions, () -> solver.shortestPaths(graph, 0, pred, dist));
+            pool.shutdown();
+            if (!Arrays.equals(expected, dist)) {
+                throw new IllegalStateException("Distances differ from Dijkstra");
+            }
+            if (threads == 1) {
+                single = millis;
+            }
+            System.out.printf("Threads %d\t%.1f ms\tspeedup %.2f\tvs Dijkstra %.2f%n",
+                    threads, millis, single / millis, baseline / millis);
+            if (threads < maxThreads && threads * 2 > maxThreads) {
+                threads = maxThreads / 2;
+            }
+        }
+    }
+
+    /** Run a task after one warm‐up run and return the median time.
+     @param repetitions The number of timed runs
+     @param task The task to be timed
+     @return The median run time in milliseconds
+     */
+    static double median(int repetitions, Runnable task) {
+        task.run();
+        double[] times = new double[repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            long begin = System.nanoTime();
+            task.run();
+            times[i] = (System.nanoTime() - begin) / 1e6;
+        }
+        Arrays.sort(times);
+        return times[repetitions / 2];
+    }
+}
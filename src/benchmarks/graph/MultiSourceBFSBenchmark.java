@@ -0,0 +1,65 @@
+package benchmarks.graph;
+
+import algorithms.graph.search.DirectionOptimizingBFS;
+import algorithms.graph.search.MultiSourceBFS;
+import datastructures.graph.CsrGraph;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/** Compares one breadth‐first search per source with multi‐source
+ breadth‐first search in batches of 64, on a random graph.
+ Usage: MultiSourceBFSBenchmark [numV] [degree] [sources] [threads]
+ */
+public class MultiSourceBFSBenchmark {
+
+    public static void main(String[] args) {
+        int numV = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int count = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+        int threads = args.length > 3 ? Integer.parseInt(args[3])
+                : Runtime.getRuntime().availableProcessors();
+
+        CsrGraph graph = RandomGraphs.uniform(numV, degree, 2.0, false, 42);
+        System.out.println("Vertices: " + numV + "\tEdges: " + graph.getNumEdges()
+                + "\tSources: " + count + "\tThreads: " + threads);
+        int[] sources = new int[count];
+        Random random = new Random(7);
+        for (int i = 0; i < count; i++) {
+            sources[i] = random.nextInt(numV);
+        }
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        DirectionOptimizingBFS bfs = new DirectionOptimizingBFS(graph, single);
+        int[][] expected = new int[count][];
+        long begin = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            expected[i] = bfs.search(sources[i]).getDepth();
+        }
+        System.out.printf("BFS per source\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+        single.shutdown();
+
+        MultiSourceBFS sequential = new MultiSourceBFS(graph, null);
+        begin = System.nanoTime();
+        int[][] dist = sequential.distances(sources);
+        System.out.printf("MS-BFS\t\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+        check(expected, dist);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        MultiSourceBFS parallel = new MultiSourceBFS(graph, pool);
+        begin = System.nanoTime();
+        dist = parallel.distances(sources);
+        System.out.printf("MS-BFS parallel\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+        pool.shutdown();
+        check(expected, dist);
+    }
+
+    private static void check(int[][] expected, int[][] actual) {
+        for (int i = 0; i < expected.length; i++) {
+            if (!Arrays.equals(expected[i], actual[i])) {
+                throw new IllegalStateException("Distances differ for source " + i);
+            }
+        }
+    }
+}
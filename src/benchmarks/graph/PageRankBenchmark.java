@@ -0,0 +1,40 @@
+package benchmarks.graph;
+
+import algorithms.graph.ranking.PageRank;
+import datastructures.graph.CsrGraph;
+
+import java.util.concurrent.ForkJoinPool;
+
+/** Prints the time and residual of every PageRank iteration on an R‐MAT
+ graph, and the edge throughput of the iterations.
+ Usage: PageRankBenchmark [scale] [edgeFactor] [threads] [tolerance]
+ */
+public class PageRankBenchmark {
+
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int edgeFactor = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int threads = args.length > 2 ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+        double tolerance = args.length > 3 ? Double.parseDouble(args[3]) : 1e-9;
+
+        CsrGraph graph = RandomGraphs.rmat(scale, edgeFactor, 42);
+        System.out.println("Vertices: " + graph.getNumV() + "\tEdges: " + graph.getNumEdges()
+                + "\tThreads: " + threads);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long begin = System.nanoTime();
+        PageRank pageRank = new PageRank(graph, pool);
+        System.out.printf("Snapshot\t%.1f ms%n", (System.nanoTime() - begin) / 1e6);
+
+        PageRank.Result result = pageRank.compute(PageRank.DEFAULT_DAMPING, tolerance, 100);
+        double total = 0;
+        for (int i = 0; i < result.getIterations(); i++) {
+            System.out.printf("Iteration %3d\t%8.1f ms\tresidual %.3e%n",
+                    i + 1, result.getIterationMillis()[i], result.getResiduals()[i]);
+            total += result.getIterationMillis()[i];
+        }
+        System.out.printf("Converged: %b\t%.1f M edges/s%n", result.isConverged(),
+                graph.getNumEdges() * (double) result.getIterations() / total / 1e3);
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,105 @@
+package benchmarks.graph;
+
+import datastructures.graph.CsrGraph;
+
+import java.util.Random;
+
+/** Generates reproducible random graphs for the benchmarks. */
+public class RandomGraphs {
+
+    /**
+     * Create a random graph in which every vertex has the same number of
+     * out‐edges to uniformly chosen destinations, with weights drawn
+     * uniformly from [1, maxWeight).
+     *
+     * @param numV      The number of vertices
+     * @param degree    The number of edges inserted per vertex
+     * @param maxWeight The exclusive upper bound of the weights
+     * @param directed  The directionality flag
+     * @param seed      The random seed
+     * @return The generated graph
+     */
+    public static CsrGraph uniform(int numV, int degree, double maxWeight,
+                                   boolean directed, long seed) {
+        Random random = new Random(seed);
+        CsrGraph.Builder builder = new CsrGraph.Builder(numV, directed);
+        for (int source = 0; source < numV; source++) {
+            for (int i = 0; i < degree; i++) {
+                int dest = random.nextInt(numV);
+                double weight = 1 + random.nextDouble() * (maxWeight - 1);
+                builder.addArc(source, dest, weight);
+                if (!directed) {
+                    builder.addArc(dest, source, weight);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create an undirected rows x cols grid in which every vertex is
+     * connected to its horizontal and vertical neighbors, with weights
+     * drawn uniformly from [1, maxWeight). Grids resemble road networks
+     * more closely than uniform random graphs.
+     *
+     * @param rows      The number of rows
+     * @param cols      The number of columns
+     * @param maxWeight The exclusive upper bound of the weights
+     * @param seed      The random seed
+     * @return The generated graph; vertex r * cols + c is at row r, column c
+     */
+    public static CsrGraph grid(int rows, int cols, double maxWeight, long seed) {
+        Random random = new Random(seed);
+        CsrGraph.Builder builder = new CsrGraph.Builder(rows * cols, false);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c;
+                if (c + 1 < cols) {
+                    double weight = 1 + random.nextDouble() * (maxWeight - 1);
+                    builder.addArc(v, v + 1, weight).addArc(v + 1, v, weight);
+                }
+                if (r + 1 < rows) {
+                    double weight = 1 + random.nextDouble() * (maxWeight - 1);
+                    builder.addArc(v, v + cols, weight).addArc(v + cols, v, weight);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create a directed R‐MAT graph with 2^scale vertices, whose skewed
+     * degree distribution resembles web and social graphs. Each edge is
+     * placed by descending the quadrants of the adjacency matrix with
+     * probabilities 0.57, 0.19, 0.19 and 0.05. All weights are 1.0.
+     *
+     * @param scale      The base‐2 logarithm of the number of vertices
+     * @param edgeFactor The number of edges per vertex
+     * @param seed       The random seed
+     * @return The generated graph
+     */
+    public static CsrGraph rmat(int scale, int edgeFactor, long seed) {
+        Random random = new Random(seed);
+        int numV = 1 << scale;
+        CsrGraph.Builder builder = new CsrGraph.Builder(numV, true);
+        long numEdges = (long) numV * edgeFactor;
+        builder.ensureCapacity((int) numEdges);
+        for (long e = 0; e < numEdges; e++) {
+            int source = 0;
+            int dest = 0;
+            for (int bit = scale - 1; bit >= 0; bit--) {
+                double p = random.nextDouble();
+                if (p >= 0.57 + 0.19 + 0.19) {
+                    source |= 1 << bit;
+                    dest |= 1 << bit;
+                } else if (p >= 0.57 + 0.19) {
+                    source |= 1 << bit;
+                } else if (p >= 0.57) {
+                    dest |= 1 << bit;
+                }
+            }
+            builder.addArc(source, dest, 1.0);
+        }
+        return builder.build();
+    }
+}
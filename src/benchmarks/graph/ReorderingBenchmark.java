@@ -0,0 +1,72 @@
+package benchmarks.graph;
+
+import algorithms.graph.ordering.VertexReordering;
+import algorithms.graph.search.DirectionOptimizingBFS;
+import algorithms.graph.shortestpath.Dijkstra;
+import datastructures.graph.CsrGraph;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/** Measures breadth‐first search and Dijkstra's algorithm on a grid whose
+ vertex numbers have been shuffled, before and after restoring locality
+ with each of the orderings of VertexReordering.
+ Usage: ReorderingBenchmark [rows] [cols] [repetitions]
+ */
+public class ReorderingBenchmark {
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        int numV = rows * cols;
+        int[] shuffle = new int[numV];
+        for (int i = 0; i < numV; i++) {
+            shuffle[i] = i;
+        }
+        Random random = new Random(42);
+        for (int i = numV - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = shuffle[i];
+            shuffle[i] = shuffle[j];
+            shuffle[j] = swap;
+        }
+        CsrGraph graph = VertexReordering.relabel(RandomGraphs.grid(rows, cols, 100.0, 42), shuffle);
+        System.out.println("Vertices: " + numV + "\tEdges: " + graph.getNumEdges());
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        double[] expected = new double[numV];
+        Dijkstra.dijkstrasAlgorithm(graph, 0, new int[numV], expected);
+        int[] identity = new int[numV];
+        Arrays.setAll(identity, i -> i);
+
+        run("shuffled", graph, identity, expected, pool, repetitions);
+        run("reverse Cuthill-McKee", graph, VertexReordering.reverseCuthillMcKee(graph),
+                expected, pool, repetitions);
+        run("BFS order", graph, VertexReordering.bfsOrder(graph, 0), expected, pool, repetitions);
+        run("degree order", graph, VertexReordering.degreeOrder(graph), expected, pool, repetitions);
+        pool.shutdown();
+    }
+
+    /** Relabel a graph, time both searches from vertex 0 and check that
+     the distances map back to the expected ones.
+     */
+    private static void run(String name, CsrGraph graph, int[] newId, double[] expected,
+                            ForkJoinPool pool, int repetitions) {
+        CsrGraph relabeled = VertexReordering.relabel(graph, newId);
+        int start = newId[0];
+        int numV = graph.getNumV();
+        int[] pred = new int[numV];
+        double[] dist = new double[numV];
+        DirectionOptimizingBFS bfs = new DirectionOptimizingBFS(relabeled, pool);
+        double bfsMillis = DeltaSteppingBenchmark.median(repetitions, () -> bfs.search(start));
+        double dijkstraMillis = DeltaSteppingBenchmark.median(repetitions,
+                () -> Dijkstra.dijkstrasAlgorithm(relabeled, start, pred, dist));
+        if (!Arrays.equals(expected, VertexReordering.mapValuesBack(dist, newId))) {
+            throw new IllegalStateException("Distances differ after relabeling");
+        }
+        System.out.printf("%-22s BFS %8.1f ms\tDijkstra %8.1f ms%n", name, bfsMillis, dijkstraMillis);
+    }
+}
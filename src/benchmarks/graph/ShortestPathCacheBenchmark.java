@@ -0,0 +1,67 @@
+package benchmarks.graph;
+
+import algorithms.graph.shortestpath.Dijkstra;
+import algorithms.graph.shortestpath.ShortestPathCache;
+import datastructures.graph.CsrGraph;
+import datastructures.graph.Edge;
+import datastructures.graph.ListGraph;
+
+import java.util.Random;
+
+/** Compares Dijkstra's algorithm with the ShortestPathCache on a stream of
+ queries whose sources repeat: most queries come from a small set of
+ popular sources. An edge is inserted every insertEvery queries, which
+ invalidates the cache.
+ Usage: ShortestPathCacheBenchmark [numV] [queries] [budgetMB] [insertEvery]
+ */
+public class ShortestPathCacheBenchmark {
+
+    public static void main(String[] args) {
+        int numV = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        long budget = (args.length > 2 ? Long.parseLong(args[2]) : 16) << 20;
+        int insertEvery = args.length > 3 ? Integer.parseInt(args[3]) : 250;
+
+        CsrGraph csr = RandomGraphs.uniform(numV, 4, 100.0, true, 42);
+        ListGraph graph = new ListGraph(numV, true);
+        for (int v = 0; v < numV; v++) {
+            final int source = v;
+            csr.forEachNeighbor(v, (dest, weight) -> graph.insert(new Edge(source, dest, weight)));
+        }
+        // 90% of the queries come from 64 popular sources.
+        int[] sources = new int[queries];
+        Random random = new Random(7);
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(10) < 9 ? random.nextInt(64) : random.nextInt(numV);
+        }
+        System.out.println("Vertices: " + numV + "\tQueries: " + queries
+                + "\tBudget: " + (budget >> 20) + " MB\tInsert every: " + insertEvery);
+
+        int[] pred = new int[numV];
+        double[] dist = new double[numV];
+        Random inserts = new Random(11);
+        long begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            if (i > 0 && i % insertEvery == 0) {
+                graph.insert(new Edge(inserts.nextInt(numV), inserts.nextInt(numV), 50.0));
+            }
+            Dijkstra.dijkstrasAlgorithm(graph, sources[i], pred, dist);
+        }
+        System.out.printf("Dijkstra\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+
+        ShortestPathCache cache = new ShortestPathCache(graph, budget);
+        inserts = new Random(11);
+        begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            if (i > 0 && i % insertEvery == 0) {
+                graph.insert(new Edge(inserts.nextInt(numV), inserts.nextInt(numV), 50.0));
+            }
+            cache.dijkstrasAlgorithm(sources[i], pred, dist);
+        }
+        System.out.printf("Cached\t\t%8.1f ms%n", (System.nanoTime() - begin) / 1e6);
+        System.out.println("Hits: " + cache.getHitCount() + "\tMisses: " + cache.getMissCount()
+                + "\tEvictions: " + cache.getEvictionCount()
+                + "\tInvalidations: " + cache.getInvalidationCount()
+                + "\tStored: " + cache.size() + " (" + (cache.getSizeInBytes() >> 10) + " KB)");
+    }
+}
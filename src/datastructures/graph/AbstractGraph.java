@@ -2,6 +2,7 @@ package datastructures.graph;
 
 import java.util.*;
 import java.io.*;
+import java.util.function.Consumer;
 /** Abstract base class for graphs. A graph is a set of vertices and
  a set of edges. Vertices are represented by integers
  from 0 to n ‐ 1. Edges are ordered pairs of vertices.
@@ -16,6 +17,13 @@ public abstract class AbstractGraph implements Graph {
      * Flag to indicate whether this is a directed graph
      */
     private boolean directed;
+    /**
+     * The number of changes made to the edges. Every insert that can
+     * change the edges, and every removal through an edge iterator,
+     * increments it, so that a cache of results computed from the graph
+     * can tell whether they are stale.
+     */
+    protected int modCount;
 
     // Constructor
 
@@ -51,8 +59,45 @@ public abstract class AbstractGraph implements Graph {
         return directed;
     }
 
+    /**
+     * Return the number of changes made to the edges so far. If two calls
+     * return the same value, the edges did not change in between.
+     *
+     * @return The modification count
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
     // Other Methods
 
+    /**
+     * Wrap an iterator over the edges of this graph so that removing an
+     * edge through it increments modCount.
+     *
+     * @param iter An iterator whose remove method changes the edges
+     * @return An iterator over the same edges
+     */
+    protected Iterator<Edge> countRemovals(final Iterator<Edge> iter) {
+        return new Iterator<Edge>() {
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public Edge next() {
+                return iter.next();
+            }
+
+            @Override
+            public void remove() {
+                iter.remove();
+                modCount++;
+            }
+        };
+    }
+
     /**
      * Load the edges of a graph from the data in an input file. The file
      * should contain a series of lines, each line with two or
@@ -62,6 +107,17 @@ public abstract class AbstractGraph implements Graph {
      * @param scan The Scanner connected to the data file
      */
     public void loadEdgesFromFile(Scanner scan) {
+        loadEdges(scan, this::insert);
+    }
+
+    /**
+     * Read the edge lines described under loadEdgesFromFile and pass
+     * each edge to a sink.
+     *
+     * @param scan The Scanner connected to the data file
+     * @param sink The receiver of the edges
+     */
+    private static void loadEdges(Scanner scan, Consumer<Edge> sink) {
         while (scan.hasNextLine()) {
             String line = scan.nextLine().trim();
             if (line.isEmpty()) continue; // Skip empty lines
@@ -77,7 +133,7 @@ public abstract class AbstractGraph implements Graph {
                 double weight = (tokens.length == 3) ? Double.parseDouble(tokens[2]) : 1.0;
 
                 // Add edge to the graph
-                insert(new Edge(source, dest, weight));
+                sink.accept(new Edge(source, dest, weight));
 
             } catch (NumberFormatException e) {
                 throw new IllegalArgumentException("Invalid number format in line: " + line, e);
@@ -95,10 +151,12 @@ public abstract class AbstractGraph implements Graph {
      * @param isDirected true if this is a directed graph,
      *                   false otherwise
      * @param type       The string "Matrix" if an adjacency matrix is to be
-     *                   created, and the string "List" if an adjacency list
-     *                   is to be created
-     * @throws IllegalArgumentException if type is neither "Matrix"
-     *                                  nor "List"
+     *                   created, the string "List" if an adjacency list
+     *                   is to be created, and the string "CSR" if an
+     *                   immutable compressed sparse row graph is to be
+     *                   created
+     * @throws IllegalArgumentException if type is not "Matrix", "List"
+     *                                  or "CSR"
      */
     public static Graph createGraph(Scanner scan, boolean isDirected,
                                     String type) {
@@ -112,6 +170,10 @@ public abstract class AbstractGraph implements Graph {
             case "list":
                 returnValue = new ListGraph(numV, isDirected);
                 break;
+            case "csr":
+                CsrGraph.Builder builder = new CsrGraph.Builder(numV, isDirected);
+                loadEdges(scan, builder::insert);
+                return builder.build();
             default:
                 throw new IllegalArgumentException();
         }
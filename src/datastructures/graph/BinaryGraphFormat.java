@@ -0,0 +1,165 @@
+package datastructures.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** Reads and writes graphs in a versioned binary file that holds the
+ compressed sparse row arrays of the graph. A file is read by
+ memory‐mapping it, so loading costs page faults instead of parsing.
+
+ The file is little‐endian and laid out as follows:
+ <pre>
+ int    MAGIC
+ int    VERSION
+ int    flags (bit 0: directed)
+ int    numV
+ long   numEdges
+ int    offsets[numV + 1]
+ (padding to a multiple of 8 bytes)
+ int    targets[numEdges]
+ (padding to a multiple of 8 bytes)
+ double weights[numEdges]
+ </pre>
+ The edges of each vertex are sorted by destination, as in a CsrGraph.
+ */
+public class BinaryGraphFormat {
+
+    /** The first four bytes of every file: "CSRG" */
+    public static final int MAGIC = 0x47525343;
+    /** The current format version */
+    public static final int VERSION = 1;
+    /** The size of the fixed header in bytes */
+    static final int HEADER_SIZE = 24;
+    /** The flag bit for a directed graph */
+    private static final int DIRECTED = 1;
+
+    /**
+     * Write a graph to a file, replacing any existing file.
+     *
+     * @param graph The graph to be written
+     * @param file  The destination file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Graph graph, Path file) throws IOException {
+        CsrGraph csr = CsrGraph.copyOf(graph);
+        int numV = csr.getNumV();
+        int numEdges = csr.getNumEdges();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(csr.isDirected() ? DIRECTED : 0);
+            buffer.putInt(numV);
+            buffer.putLong(numEdges);
+            for (int v = 0; v <= numV; v++) {
+                flushIfFull(channel, buffer, 4);
+                buffer.putInt(v < numV ? csr.edgeStart(v) : numEdges);
+            }
+            pad(channel, buffer, HEADER_SIZE + 4L * (numV + 1));
+            for (int e = 0; e < numEdges; e++) {
+                flushIfFull(channel, buffer, 4);
+                buffer.putInt(csr.getTarget(e));
+            }
+            pad(channel, buffer, 4L * numEdges);
+            for (int e = 0; e < numEdges; e++) {
+                flushIfFull(channel, buffer, 8);
+                buffer.putDouble(csr.getWeight(e));
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Map a graph file. The returned graph reads its edges directly from
+     * the mapped file.
+     *
+     * @param file The graph file
+     * @return The mapped graph
+     * @throws IOException if the file cannot be read or is not a graph
+     *                     file of a supported version
+     */
+    public static MappedCsrGraph read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // Keep reading until the header is complete.
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+                throw new IOException("Not a graph file: " + file);
+            }
+            int version = header.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported graph file version " + version + ": " + file);
+            }
+            boolean directed = (header.getInt(8) & DIRECTED) != 0;
+            int numV = header.getInt(12);
+            long numEdges = header.getLong(16);
+            long offsetsAt = HEADER_SIZE;
+            long targetsAt = align(offsetsAt + 4L * (numV + 1));
+            long weightsAt = align(targetsAt + 4 * numEdges);
+            if (numV < 0 || numEdges < 0 || numEdges > Integer.MAX_VALUE
+                    || channel.size() < weightsAt + 8 * numEdges) {
+                throw new IOException("Truncated or corrupt graph file: " + file);
+            }
+            // The mappings stay valid after the channel is closed.
+            return new MappedCsrGraph(numV, directed,
+                    map(channel, offsetsAt, numV + 1L, 4),
+                    map(channel, targetsAt, numEdges, 4),
+                    map(channel, weightsAt, numEdges, 8));
+        }
+    }
+
+    /** Map an array section of the file as a list of segments of
+     MappedCsrGraph.SEGMENT_SIZE elements, since one mapping is limited
+     to 2 GB.
+     @param channel The file
+     @param position The position of the first element
+     @param length The number of elements
+     @param elementSize The size of an element in bytes
+     @return The mapped segments
+     */
+    private static ByteBuffer[] map(FileChannel channel, long position, long length,
+                                    int elementSize) throws IOException {
+        int count = (int) ((length + MappedCsrGraph.SEGMENT_SIZE - 1) / MappedCsrGraph.SEGMENT_SIZE);
+        ByteBuffer[] segments = new ByteBuffer[Math.max(1, count)];
+        for (int i = 0; i < segments.length; i++) {
+            long first = (long) i * MappedCsrGraph.SEGMENT_SIZE;
+            long elements = Math.min(MappedCsrGraph.SEGMENT_SIZE, length - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                            position + first * elementSize, elements * elementSize)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return segments;
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static void pad(FileChannel channel, ByteBuffer buffer, long written) throws IOException {
+        flushIfFull(channel, buffer, 8);
+        for (long i = written; i < align(written); i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    private static void flushIfFull(FileChannel channel, ByteBuffer buffer, int needed)
+            throws IOException {
+        if (buffer.remaining() < needed) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,344 @@
+package datastructures.graph;
+
+import java.util.*;
+
+/** A CompressedGraph is an immutable extension of the AbstractGraph
+ abstract class for very large sparse graphs. The sorted edges of each
+ vertex are stored as variable‐length integers in one byte array:
+ first the degree, then the distance of the first destination from the
+ source (zig‐zag encoded, since it may be negative) and then the gap
+ from each destination to the next. Each integer takes 7 bits per byte,
+ so the small gaps of a graph with locality take one or two bytes.
+ Weights are only stored, as 8 bytes after each gap, when some weight
+ is not 1.0. The edges are decoded on the fly when they are visited.
+ */
+public class CompressedGraph extends AbstractGraph {
+    // Data Fields
+    /** The position of the encoded edges of each vertex; offsets[numV]
+     is the length of the encoding */
+    private final int[] offsets;
+    /** The encoded edges */
+    private final byte[] data;
+    /** Whether the weights are stored */
+    private final boolean weighted;
+    /** The number of stored edges */
+    private final long numEdges;
+
+    private CompressedGraph(int numV, boolean directed, int[] offsets, byte[] data,
+                            boolean weighted, long numEdges) {
+        super(numV, directed);
+        this.offsets = offsets;
+        this.data = data;
+        this.weighted = weighted;
+        this.numEdges = numEdges;
+    }
+
+    /**
+     * Return a CompressedGraph with the same vertices and edges as
+     * another graph. The edges are read one vertex at a time, so no
+     * uncompressed copy of the whole graph is made.
+     *
+     * @param graph The graph to be copied
+     * @return A CompressedGraph with the edges of graph
+     * @throws IllegalArgumentException if the encoding would not fit in
+     *                                  a byte array
+     */
+    public static CompressedGraph copyOf(Graph graph) {
+        if (graph instanceof CompressedGraph) {
+            return (CompressedGraph) graph;
+        }
+        int numV = graph.getNumV();
+        boolean[] weighted = new boolean[1];
+        for (int v = 0; v < numV && !weighted[0]; v++) {
+            graph.forEachNeighbor(v, (dest, weight) -> weighted[0] |= weight != 1.0);
+        }
+        Encoder encoder = new Encoder(weighted[0]);
+        int[] offsets = new int[numV + 1];
+        long numEdges = 0;
+        for (int v = 0; v < numV; v++) {
+            offsets[v] = encoder.size;
+            graph.forEachNeighbor(v, encoder);
+            numEdges += encoder.count;
+            encoder.writeRow(v);
+        }
+        offsets[numV] = encoder.size;
+        return new CompressedGraph(numV, graph.isDirected(), offsets,
+                Arrays.copyOf(encoder.data, encoder.size), weighted[0], numEdges);
+    }
+
+    /**
+     * A CompressedGraph cannot be modified once it is built.
+     *
+     * @param edge The new edge
+     * @throws UnsupportedOperationException always
+     */
+    public void insert(Edge edge) {
+        throw new UnsupportedOperationException("CompressedGraph is immutable");
+    }
+
+    /**
+     * Determine whether an edge exists.
+     *
+     * @param source The source vertex
+     * @param dest   The destination vertex
+     * @return true if there is an edge from source to dest
+     */
+    public boolean isEdge(int source, int dest) {
+        return getEdge(source, dest) != null;
+    }
+
+    /**
+     * Get the edge between two vertices. The edges of source are decoded
+     * until dest is reached or passed.
+     *
+     * @param source The source
+     * @param dest   The destination
+     * @return the edge between these two vertices
+     * or null if an edge does not exist.
+     */
+    public Edge getEdge(int source, int dest) {
+        Decoder decoder = new Decoder(source);
+        while (decoder.hasNext()) {
+            decoder.advance();
+            if (decoder.dest == dest) {
+                return new Edge(source, dest, decoder.weight);
+            }
+            if (decoder.dest > dest) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    public Iterator<Edge> edgeIterator(final int source) {
+        final Decoder decoder = new Decoder(source);
+        return new Iterator<Edge>() {
+            @Override
+            public boolean hasNext() {
+                return decoder.hasNext();
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                decoder.advance();
+                return new Edge(source, decoder.dest, decoder.weight);
+            }
+        };
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        // The decoding is repeated inline here, with a fast path for
+        // one‐byte values, to keep the hot loop free of allocation.
+        byte[] bytes = data;
+        int position = offsets[source];
+        int remaining = bytes[position++];
+        if (remaining < 0) {
+            remaining &= 0x7F;
+            for (int shift = 7; ; shift += 7) {
+                byte b = bytes[position++];
+                remaining |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+        }
+        int dest = source;
+        for (int i = 0; i < remaining; i++) {
+            int value = bytes[position++];
+            if (value < 0) {
+                value &= 0x7F;
+                for (int shift = 7; ; shift += 7) {
+                    byte b = bytes[position++];
+                    value |= (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+            }
+            // Only the first gap is zig‐zag encoded.
+            dest += i == 0 ? (value >>> 1) ^ -(value & 1) : value;
+            if (weighted) {
+                action.accept(dest, Double.longBitsToDouble(readLong(bytes, position)));
+                position += 8;
+            } else {
+                action.accept(dest, 1.0);
+            }
+        }
+    }
+
+    /**
+     * Return the number of stored edges. Each undirected edge is
+     * counted once in each direction.
+     *
+     * @return The number of stored edges
+     */
+    public long getNumEdges() {
+        return numEdges;
+    }
+
+    /**
+     * Return the number of edges that originate with a vertex.
+     *
+     * @param source The source vertex
+     * @return The out-degree of source
+     */
+    public int getDegree(int source) {
+        return new Decoder(source).remaining;
+    }
+
+    /**
+     * Return the number of bytes used by the encoded edges and the
+     * offset index.
+     *
+     * @return The size of the graph in bytes
+     */
+    public long getSizeInBytes() {
+        return data.length + 4L * offsets.length;
+    }
+
+    /**
+     * Return whether edge weights are stored. If not, every edge has
+     * weight 1.0.
+     *
+     * @return true if the weights are stored
+     */
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    private static long readLong(byte[] bytes, int position) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (bytes[position + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /** Decodes the edges of one vertex in order. */
+    private class Decoder {
+        private int position;
+        private int remaining;
+        private boolean first = true;
+        private int dest;
+        private double weight = 1.0;
+
+        private Decoder(int source) {
+            position = offsets[source];
+            remaining = readVarInt();
+            dest = source;
+        }
+
+        private boolean hasNext() {
+            return remaining > 0;
+        }
+
+        /** Decode the next edge into dest and weight. */
+        private void advance() {
+            int gap = readVarInt();
+            if (first) {
+                dest += (gap >>> 1) ^ -(gap & 1);
+                first = false;
+            } else {
+                dest += gap;
+            }
+            if (weighted) {
+                weight = Double.longBitsToDouble(readLong(data, position));
+                position += 8;
+            }
+            remaining--;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    /** Collects the edges of one vertex, sorts them and appends their
+     encoding to a growing byte array. */
+    private static class Encoder implements IntDoubleConsumer {
+        private final boolean weighted;
+        private byte[] data = new byte[1024];
+        private int size;
+        private int[] dests = new int[16];
+        private double[] weights = new double[16];
+        private long[] keys = new long[16];
+        private int count;
+
+        private Encoder(boolean weighted) {
+            this.weighted = weighted;
+        }
+
+        @Override
+        public void accept(int dest, double weight) {
+            if (count == dests.length) {
+                dests = Arrays.copyOf(dests, count * 2);
+                weights = Arrays.copyOf(weights, count * 2);
+                keys = new long[count * 2];
+            }
+            dests[count] = dest;
+            weights[count] = weight;
+            count++;
+        }
+
+        /** Encode the collected edges of a source and start a new row. */
+        private void writeRow(int source) {
+            // Sort by destination, keeping equal destinations in order.
+            for (int i = 0; i < count; i++) {
+                keys[i] = ((long) dests[i] << 32) | i;
+            }
+            Arrays.sort(keys, 0, count);
+            writeVarInt(count);
+            int previous = source;
+            for (int i = 0; i < count; i++) {
+                int dest = (int) (keys[i] >>> 32);
+                if (i == 0) {
+                    int delta = dest - source;
+                    writeVarInt((delta << 1) ^ (delta >> 31));
+                } else {
+                    writeVarInt(dest - previous);
+                }
+                previous = dest;
+                if (weighted) {
+                    long bits = Double.doubleToRawLongBits(weights[(int) keys[i]]);
+                    ensureCapacity(8);
+                    for (int k = 0; k < 8; k++) {
+                        data[size++] = (byte) (bits >>> (8 * k));
+                    }
+                }
+            }
+            count = 0;
+        }
+
+        private void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                data[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(int additional) {
+            long required = (long) size + additional;
+            if (required > data.length) {
+                if (required > Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("Graph is too large to compress into one array");
+                }
+                long capacity = Math.max((long) data.length * 2, required);
+                data = Arrays.copyOf(data, (int) Math.min(capacity, Integer.MAX_VALUE - 8));
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package datastructures.graph;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** A ConcurrentListGraph is a thread‐safe extension of the AbstractGraph
+ abstract class. The edges of each vertex are kept in an append‐only
+ block of primitive arrays. Writers take a lock from a small array of
+ striped locks chosen by vertex number, so inserts at different vertices
+ rarely contend. Readers take no lock: they read the current block and
+ its published size once, and then see a consistent snapshot of the
+ edges that were inserted before that moment.
+ */
+public class ConcurrentListGraph extends AbstractGraph {
+
+    /** The edges of one vertex. Elements below size are never changed;
+     a full block is replaced by a larger copy. */
+    private static final class Block {
+        private final int[] dests;
+        private final double[] weights;
+        /** The number of published edges */
+        private volatile int size;
+
+        private Block(int[] dests, double[] weights, int size) {
+            this.dests = dests;
+            this.weights = weights;
+            this.size = size;
+        }
+    }
+
+    /** The initial capacity of a block */
+    private static final int INITIAL_CAPACITY = 4;
+    private static final Block EMPTY = new Block(new int[0], new double[0], 0);
+
+    // Data Fields
+    /** The current block of each vertex */
+    private final AtomicReferenceArray<Block> blocks;
+    /** The striped write locks */
+    private final Object[] locks;
+    /** The modification count, which inserts under different locks
+     increment atomically in place of modCount */
+    private final AtomicInteger modifications = new AtomicInteger();
+
+    /**
+     * Construct a graph with the specified number of vertices and
+     * directionality, with lock stripes sized for the available processors.
+     *
+     * @param numV     The number of vertices
+     * @param directed The directionality flag
+     */
+    public ConcurrentListGraph(int numV, boolean directed) {
+        this(numV, directed, 16 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construct a graph with the specified number of vertices,
+     * directionality and lock stripes.
+     *
+     * @param numV     The number of vertices
+     * @param directed The directionality flag
+     * @param stripes  The number of write locks, rounded up to a power of two
+     */
+    public ConcurrentListGraph(int numV, boolean directed, int stripes) {
+        super(numV, directed);
+        blocks = new AtomicReferenceArray<>(numV);
+        for (int i = 0; i < numV; i++) {
+            blocks.set(i, EMPTY);
+        }
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        locks = new Object[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Insert a new edge into the graph. The edge becomes visible to
+     * readers when this method returns.
+     *
+     * @param edge The new edge
+     */
+    public void insert(Edge edge) {
+        int source = edge.getSource();
+        int dest = edge.getDest();
+        double weight = edge.getWeight();
+        if (isDirected()) {
+            synchronized (lockFor(source)) {
+                append(source, dest, weight);
+            }
+            modifications.incrementAndGet();
+            return;
+        }
+        // Take both locks in stripe order to avoid deadlock.
+        int a = stripe(source);
+        int b = stripe(dest);
+        synchronized (locks[Math.min(a, b)]) {
+            synchronized (locks[Math.max(a, b)]) {
+                append(source, dest, weight);
+                append(dest, source, weight);
+            }
+        }
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * Return the number of inserts completed so far.
+     *
+     * @return The modification count
+     */
+    @Override
+    public int getModCount() {
+        return modifications.get();
+    }
+
+    /**
+     * Get the edge between two vertices.
+     *
+     * @param source The source
+     * @param dest   The destination
+     * @return the edge between these two vertices
+     * or null if an edge does not exist.
+     */
+    public Edge getEdge(int source, int dest) {
+        Block block = blocks.get(source);
+        int size = block.size;
+        for (int i = 0; i < size; i++) {
+            if (block.dests[i] == dest) {
+                return new Edge(source, dest, block.weights[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determine whether an edge exists.
+     *
+     * @param source The source vertex
+     * @param dest   The destination vertex
+     * @return true if there is an edge from source to dest
+     */
+    public boolean isEdge(int source, int dest) {
+        Block block = blocks.get(source);
+        int size = block.size;
+        for (int i = 0; i < size; i++) {
+            if (block.dests[i] == dest) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return an iterator over a snapshot of the edges of a vertex. Edges
+     * inserted after this call are not returned.
+     *
+     * @param source The source vertex
+     * @return An Iterator<Edge> to the vertices connected to source
+     */
+    public Iterator<Edge> edgeIterator(final int source) {
+        final Block block = blocks.get(source);
+        final int size = block.size;
+        return new Iterator<Edge>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Edge edge = new Edge(source, block.dests[next], block.weights[next]);
+                next++;
+                return edge;
+            }
+        };
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        Block block = blocks.get(source);
+        int size = block.size;
+        for (int i = 0; i < size; i++) {
+            action.accept(block.dests[i], block.weights[i]);
+        }
+    }
+
+    /**
+     * Return the number of edges that originate with a vertex.
+     *
+     * @param source The source vertex
+     * @return The out-degree of source
+     */
+    public int getDegree(int source) {
+        return blocks.get(source).size;
+    }
+
+    /** Append an edge to the block of its source.
+     @pre The caller holds the lock of source.
+     */
+    private void append(int source, int dest, double weight) {
+        Block block = blocks.get(source);
+        int size = block.size;
+        if (size < block.dests.length) {
+            block.dests[size] = dest;
+            block.weights[size] = weight;
+            // The volatile write publishes the new element.
+            block.size = size + 1;
+        } else {
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            int[] dests = Arrays.copyOf(block.dests, capacity);
+            double[] weights = Arrays.copyOf(block.weights, capacity);
+            dests[size] = dest;
+            weights[size] = weight;
+            blocks.set(source, new Block(dests, weights, size + 1));
+        }
+    }
+
+    private int stripe(int vertex) {
+        return vertex & (locks.length - 1);
+    }
+
+    private Object lockFor(int vertex) {
+        return locks[stripe(vertex)];
+    }
+}
@@ -0,0 +1,400 @@
+package datastructures.graph;
+
+import java.util.*;
+
+/** A CsrGraph is an immutable extension of the AbstractGraph abstract class
+ that stores the edges in compressed sparse row (CSR) form. The edges that
+ originate with vertex v occupy positions offsets[v] through
+ offsets[v + 1] ‐ 1 of the packed targets and weights arrays, sorted
+ by destination. A CsrGraph is created by a Builder or copied from
+ another graph.
+ */
+public class CsrGraph extends AbstractGraph {
+    // Data Fields
+    /**
+     * The position of the first edge of each vertex; offsets[numV] is
+     * the total number of edges.
+     */
+    private final int[] offsets;
+    /**
+     * The destination of each edge.
+     */
+    private final int[] targets;
+    /**
+     * The weight of each edge.
+     */
+    private final double[] weights;
+
+    /**
+     * Construct a graph from already packed arrays.
+     *
+     * @param numV     The number of vertices
+     * @param directed The directionality flag
+     * @param offsets  The edge offsets, of length numV + 1
+     * @param targets  The edge destinations
+     * @param weights  The edge weights
+     */
+    private CsrGraph(int numV, boolean directed, int[] offsets, int[] targets,
+                     double[] weights) {
+        super(numV, directed);
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Return a CsrGraph with the same vertices and edges as another graph.
+     * If the graph already is a CsrGraph it is returned unchanged.
+     *
+     * @param graph The graph to be copied
+     * @return A CsrGraph with the edges of graph
+     */
+    public static CsrGraph copyOf(Graph graph) {
+        if (graph instanceof CsrGraph) {
+            return (CsrGraph) graph;
+        }
+        Builder builder = new Builder(graph.getNumV(), graph.isDirected());
+        for (int v = 0; v < graph.getNumV(); v++) {
+            final int source = v;
+            // The reverse of an undirected edge is already stored.
+            graph.forEachNeighbor(source, (dest, weight) -> builder.addArc(source, dest, weight));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Return the graph with every edge reversed, so that the edges of a
+     * vertex are its incoming edges in this graph. An undirected graph
+     * is its own transpose.
+     *
+     * @return The transposed graph
+     */
+    public CsrGraph transpose() {
+        if (!isDirected()) {
+            return this;
+        }
+        int numV = getNumV();
+        int[] reverseOffsets = new int[numV + 1];
+        for (int target : targets) {
+            reverseOffsets[target + 1]++;
+        }
+        for (int v = 0; v < numV; v++) {
+            reverseOffsets[v + 1] += reverseOffsets[v];
+        }
+        // Visiting sources in order keeps each reversed row sorted.
+        int[] next = Arrays.copyOf(reverseOffsets, numV);
+        int[] reverseTargets = new int[targets.length];
+        double[] reverseWeights = new double[targets.length];
+        for (int source = 0; source < numV; source++) {
+            for (int i = offsets[source]; i < offsets[source + 1]; i++) {
+                int position = next[targets[i]]++;
+                reverseTargets[position] = source;
+                reverseWeights[position] = weights[i];
+            }
+        }
+        return new CsrGraph(numV, true, reverseOffsets, reverseTargets, reverseWeights);
+    }
+
+    /**
+     * A CsrGraph cannot be modified once it is built.
+     *
+     * @param edge The new edge
+     * @throws UnsupportedOperationException always
+     */
+    public void insert(Edge edge) {
+        throw new UnsupportedOperationException("CsrGraph is immutable");
+    }
+
+    /**
+     * Determine whether an edge exists.
+     *
+     * @param source The source vertex
+     * @param dest   The destination vertex
+     * @return true if there is an edge from source to dest
+     */
+    public boolean isEdge(int source, int dest) {
+        return indexOf(source, dest) >= 0;
+    }
+
+    /**
+     * Get the edge between two vertices.
+     *
+     * @param source The source
+     * @param dest   The destination
+     * @return the edge between these two vertices
+     * or null if an edge does not exist.
+     */
+    public Edge getEdge(int source, int dest) {
+        int index = indexOf(source, dest);
+        return index < 0 ? null : new Edge(source, dest, weights[index]);
+    }
+
+    public Iterator<Edge> edgeIterator(final int source) {
+        return new Iterator<Edge>() {
+            private int next = offsets[source];
+
+            @Override
+            public boolean hasNext() {
+                return next < offsets[source + 1];
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Edge edge = new Edge(source, targets[next], weights[next]);
+                next++;
+                return edge;
+            }
+        };
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        for (int i = offsets[source]; i < offsets[source + 1]; i++) {
+            action.accept(targets[i], weights[i]);
+        }
+    }
+
+    /**
+     * Return the number of stored edges. Each undirected edge is
+     * counted once in each direction.
+     *
+     * @return The number of stored edges
+     */
+    public int getNumEdges() {
+        return targets.length;
+    }
+
+    /**
+     * Return the number of edges that originate with a vertex.
+     *
+     * @param source The source vertex
+     * @return The out-degree of source
+     */
+    public int getDegree(int source) {
+        return offsets[source + 1] - offsets[source];
+    }
+
+    /**
+     * Return the position of the first edge of a vertex.
+     *
+     * @param source The source vertex
+     * @return The index of the first edge that originates with source
+     */
+    public int edgeStart(int source) {
+        return offsets[source];
+    }
+
+    /**
+     * Return the position just past the last edge of a vertex.
+     *
+     * @param source The source vertex
+     * @return One more than the index of the last edge of source
+     */
+    public int edgeEnd(int source) {
+        return offsets[source + 1];
+    }
+
+    /**
+     * Return the destination of the edge at a position.
+     *
+     * @param index The edge position
+     * @return The destination vertex
+     */
+    public int getTarget(int index) {
+        return targets[index];
+    }
+
+    /**
+     * Return the weight of the edge at a position.
+     *
+     * @param index The edge position
+     * @return The edge weight
+     */
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    /** Binary search the sorted edges of source for dest.
+     @param source The source vertex
+     @param dest The destination vertex
+     @return The position of the edge or ‐1 if there is none
+     */
+    private int indexOf(int source, int dest) {
+        int low = offsets[source];
+        int high = offsets[source + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int target = targets[middle];
+            if (target < dest) {
+                low = middle + 1;
+            } else if (target > dest) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /** Collects edges in primitive arrays in a single pass and packs
+     them into a CsrGraph.
+     */
+    public static class Builder {
+        // Data Fields
+        /** The default initial capacity */
+        private static final int INITIAL_CAPACITY = 16;
+        /** The number of vertices */
+        private final int numV;
+        /** The directionality flag */
+        private final boolean directed;
+        /** The sources of the collected edges */
+        private int[] sources;
+        /** The destinations of the collected edges */
+        private int[] dests;
+        /** The weights of the collected edges */
+        private double[] weights;
+        /** The number of collected edges */
+        private int numEdges;
+
+        /**
+         * Construct a builder for a graph with the specified number of
+         * vertices and directionality.
+         *
+         * @param numV     The number of vertices
+         * @param directed The directionality flag
+         */
+        public Builder(int numV, boolean directed) {
+            this.numV = numV;
+            this.directed = directed;
+            sources = new int[INITIAL_CAPACITY];
+            dests = new int[INITIAL_CAPACITY];
+            weights = new double[INITIAL_CAPACITY];
+        }
+
+        /**
+         * Add an edge. If the graph is undirected the reverse edge is
+         * added as well.
+         *
+         * @param edge The new edge
+         * @return This builder
+         */
+        public Builder insert(Edge edge) {
+            addArc(edge.getSource(), edge.getDest(), edge.getWeight());
+            if (!directed) {
+                addArc(edge.getDest(), edge.getSource(), edge.getWeight());
+            }
+            return this;
+        }
+
+        /**
+         * Add a single directed edge, regardless of the directionality
+         * of the graph.
+         *
+         * @param source The source vertex
+         * @param dest   The destination vertex
+         * @param weight The edge weight
+         * @return This builder
+         * @throws IllegalArgumentException if source or dest is not a vertex
+         * @throws IllegalStateException if the graph was already built
+         */
+        public Builder addArc(int source, int dest, double weight) {
+            if (sources == null) {
+                throw new IllegalStateException("Graph has already been built");
+            }
+            if (source < 0 || source >= numV || dest < 0 || dest >= numV) {
+                throw new IllegalArgumentException("Invalid edge: " + source + " -> " + dest);
+            }
+            if (numEdges == sources.length) {
+                reallocate();
+            }
+            sources[numEdges] = source;
+            dests[numEdges] = dest;
+            weights[numEdges] = weight;
+            numEdges++;
+            return this;
+        }
+
+        /**
+         * Make room for a number of additional edges, so that a bulk load
+         * of known size grows the arrays only once.
+         *
+         * @param additional The number of edges about to be added
+         */
+        public void ensureCapacity(int additional) {
+            if (sources != null && numEdges + additional > sources.length) {
+                sources = Arrays.copyOf(sources, numEdges + additional);
+                dests = Arrays.copyOf(dests, numEdges + additional);
+                weights = Arrays.copyOf(weights, numEdges + additional);
+            }
+        }
+
+        /**
+         * Pack the collected edges into a CsrGraph. The edges of each
+         * vertex are ordered by destination using two stable counting
+         * passes, first by destination and then by source. The builder
+         * cannot be used afterwards.
+         *
+         * @return The new graph
+         * @throws IllegalStateException if the graph was already built
+         */
+        public CsrGraph build() {
+            if (sources == null) {
+                throw new IllegalStateException("Graph has already been built");
+            }
+            // First pass: order the edges by destination.
+            int[] byDest = countingOrder(dests);
+            int[] offsets = new int[numV + 1];
+            for (int i = 0; i < numEdges; i++) {
+                offsets[sources[i] + 1]++;
+            }
+            for (int v = 0; v < numV; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            // Second pass: stable placement by source.
+            int[] next = Arrays.copyOf(offsets, numV);
+            int[] packedTargets = new int[numEdges];
+            double[] packedWeights = new double[numEdges];
+            for (int i : byDest) {
+                int position = next[sources[i]]++;
+                packedTargets[position] = dests[i];
+                packedWeights[position] = weights[i];
+            }
+            sources = null;
+            dests = null;
+            weights = null;
+            return new CsrGraph(numV, directed, offsets, packedTargets, packedWeights);
+        }
+
+        /** Return the edge indices stably ordered by a vertex key.
+         @param keys The key of each edge
+         @return The edge indices in key order
+         */
+        private int[] countingOrder(int[] keys) {
+            int[] start = new int[numV + 1];
+            for (int i = 0; i < numEdges; i++) {
+                start[keys[i] + 1]++;
+            }
+            for (int v = 0; v < numV; v++) {
+                start[v + 1] += start[v];
+            }
+            int[] order = new int[numEdges];
+            for (int i = 0; i < numEdges; i++) {
+                order[start[keys[i]]++] = i;
+            }
+            return order;
+        }
+
+        private void reallocate() {
+            int capacity = sources.length + (sources.length >> 1);
+            if (capacity < 0) {
+                capacity = Integer.MAX_VALUE - 8;
+            }
+            sources = Arrays.copyOf(sources, capacity);
+            dests = Arrays.copyOf(dests, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+}
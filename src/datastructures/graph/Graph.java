@@ -40,4 +40,17 @@ public interface Graph {
      @return An Iterator<Edge> to the vertices connected to source
      */
     Iterator<Edge> edgeIterator(int source);
+    /** Apply an action to the destination and weight of each edge
+     connected to a given vertex. Implementations override this
+     to visit their edges without allocating Edge objects.
+     @param source The source vertex
+     @param action The action to be applied to each edge
+     */
+    default void forEachNeighbor(int source, IntDoubleConsumer action) {
+        Iterator<Edge> itr = edgeIterator(source);
+        while (itr.hasNext()) {
+            Edge edge = itr.next();
+            action.accept(edge.getDest(), edge.getWeight());
+        }
+    }
 }
\ No newline at end of file
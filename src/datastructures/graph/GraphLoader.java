@@ -0,0 +1,395 @@
+package datastructures.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/** Loads graphs from the text format of AbstractGraph.loadEdgesFromFile
+ without a Scanner. The file is memory‐mapped and split at line breaks
+ into chunks that are parsed in parallel straight from the mapped bytes
+ into primitive arrays; no String is created unless a line is invalid.
+ The edges are then inserted in file order, and invalid input is
+ reported with the same messages as loadEdgesFromFile.
+ */
+public class GraphLoader {
+
+    /** The largest chunk mapped at once */
+    private static final long MAX_CHUNK = 1 << 30;
+    /** The smallest chunk worth parsing on its own thread */
+    private static final long MIN_CHUNK = 1 << 20;
+
+    /**
+     * Create a graph and load the data from an input file. The file has
+     * the format described under AbstractGraph.createGraph.
+     *
+     * @param file       The data file
+     * @param isDirected true if this is a directed graph,
+     *                   false otherwise
+     * @param type       "Matrix", "List" or "CSR", as for
+     *                   AbstractGraph.createGraph
+     * @param pool       The pool that parses the chunks
+     * @return The loaded graph
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if type is not "Matrix", "List"
+     *                                  or "CSR", a line is invalid, or
+     *                                  the edges do not fit in a CSR graph
+     * @throws InputMismatchException if the number of vertices is not an integer
+     */
+    public static Graph createGraph(Path file, boolean isDirected, String type,
+                                    ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] header = readHeader(channel);
+            int numV = (int) header[0];
+            List<EdgeChunk> chunks = parse(channel, header[1], pool);
+            switch (type.toLowerCase()) {
+                case "matrix":
+                    return insertAll(new MatrixGraph(numV, isDirected), chunks);
+                case "list":
+                    return insertAll(new ListGraph(numV, isDirected), chunks);
+                case "csr":
+                    CsrGraph.Builder builder = new CsrGraph.Builder(numV, isDirected);
+                    long total = 0;
+                    for (EdgeChunk chunk : chunks) {
+                        total += chunk.size;
+                    }
+                    long arcs = isDirected ? total : 2 * total;
+                    if (arcs > Integer.MAX_VALUE - 8) {
+                        throw new IllegalArgumentException("Too many edges for a CSR graph: " + arcs);
+                    }
+                    builder.ensureCapacity((int) arcs);
+                    for (EdgeChunk chunk : chunks) {
+                        for (int i = 0; i < chunk.size; i++) {
+                            builder.addArc(chunk.sources[i], chunk.dests[i], chunk.weights[i]);
+                            if (!isDirected) {
+                                builder.addArc(chunk.dests[i], chunk.sources[i], chunk.weights[i]);
+                            }
+                        }
+                    }
+                    return builder.build();
+                default:
+                    throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    /**
+     * Load the edges of a graph from a file without a vertex count line,
+     * as AbstractGraph.loadEdgesFromFile does.
+     *
+     * @param file  The data file
+     * @param graph The graph that receives the edges
+     * @param pool  The pool that parses the chunks
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is invalid
+     */
+    public static void loadEdgesFromFile(Path file, Graph graph, ForkJoinPool pool)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            insertAll(graph, parse(channel, 0, pool));
+        }
+    }
+
+    private static <G extends Graph> G insertAll(G graph, List<EdgeChunk> chunks) {
+        for (EdgeChunk chunk : chunks) {
+            for (int i = 0; i < chunk.size; i++) {
+                graph.insert(new Edge(chunk.sources[i], chunk.dests[i], chunk.weights[i]));
+            }
+        }
+        return graph;
+    }
+
+    /** Read the vertex count, which is the first token of the file.
+     @param channel The file
+     @return The vertex count and the position just after it
+     */
+    private static long[] readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        long position = 0;
+        StringBuilder token = new StringBuilder();
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            int i = 0;
+            while (i < read) {
+                byte b = buffer.get(i);
+                if (isWhitespace(b) || b == '\n' || b == '\r') {
+                    if (token.length() > 0) {
+                        return new long[] {parseHeader(token), position + i};
+                    }
+                } else {
+                    token.append((char) (b & 0xff));
+                }
+                i++;
+            }
+            position += read;
+        }
+        if (token.length() == 0) {
+            throw new NoSuchElementException();
+        }
+        return new long[] {parseHeader(token), position};
+    }
+
+    private static int parseHeader(CharSequence token) {
+        try {
+            return Integer.parseInt(token.toString());
+        } catch (NumberFormatException e) {
+            throw new InputMismatchException("For input string: \"" + token + "\"");
+        }
+    }
+
+    /** Split the file from a position on into chunks at line breaks and
+     parse the chunks in parallel.
+     @param channel The file
+     @param start The position of the first edge line
+     @param pool The pool that parses the chunks
+     @return The parsed chunks in file order
+     @throws IllegalArgumentException for the first invalid line in the file
+     */
+    private static List<EdgeChunk> parse(FileChannel channel, long start, ForkJoinPool pool)
+            throws IOException {
+        long size = channel.size();
+        long length = size - start;
+        long count = Math.max(1, Math.min(4L * pool.getParallelism(), length / MIN_CHUNK));
+        count = Math.max(count, (length + MAX_CHUNK - 1) / MAX_CHUNK);
+        long[] bounds = new long[(int) count + 1];
+        bounds[0] = start;
+        bounds[(int) count] = size;
+        for (int i = 1; i < count; i++) {
+            long nominal = start + length / count * i;
+            bounds[i] = Math.max(bounds[i - 1], nextLineStart(channel, nominal, size));
+        }
+
+        List<Callable<EdgeChunk>> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long from = bounds[i];
+            long to = bounds[i + 1];
+            tasks.add(() -> {
+                EdgeChunk chunk = new EdgeChunk();
+                if (to > from) {
+                    chunk.parse(channel.map(FileChannel.MapMode.READ_ONLY, from, to - from));
+                }
+                return chunk;
+            });
+        }
+        List<EdgeChunk> chunks = new ArrayList<>();
+        for (Future<EdgeChunk> future : pool.invokeAll(tasks)) {
+            try {
+                EdgeChunk chunk = future.get();
+                if (chunk.error != null) {
+                    throw chunk.error;
+                }
+                chunks.add(chunk);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+        return chunks;
+    }
+
+    /** Return the first position at or after a position that starts a line. */
+    private static long nextLineStart(FileChannel channel, long position, long size)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long at = position - 1;
+        while (at < size) {
+            buffer.clear();
+            int read = channel.read(buffer, at);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n' || b == '\r') {
+                    return at + i + 1;
+                }
+            }
+            at += read;
+        }
+        return size;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == 0x0B || b == '\f';
+    }
+
+    /** The edges parsed from one chunk of the file. */
+    private static class EdgeChunk {
+        private int[] sources = new int[1024];
+        private int[] dests = new int[1024];
+        private double[] weights = new double[1024];
+        private int size;
+        /** The first invalid line of the chunk, if any */
+        private IllegalArgumentException error;
+        /** The start and end of each token of the current line */
+        private final int[] tokens = new int[6];
+
+        private void parse(MappedByteBuffer buffer) {
+            int limit = buffer.limit();
+            int lineStart = 0;
+            while (lineStart < limit && error == null) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n' && buffer.get(lineEnd) != '\r') {
+                    lineEnd++;
+                }
+                parseLine(buffer, lineStart, lineEnd);
+                lineStart = lineEnd + 1;
+            }
+        }
+
+        private void parseLine(ByteBuffer buffer, int from, int to) {
+            // Trim as String.trim does.
+            while (from < to && (buffer.get(from) & 0xff) <= ' ') {
+                from++;
+            }
+            while (to > from && (buffer.get(to - 1) & 0xff) <= ' ') {
+                to--;
+            }
+            if (from == to) {
+                return; // Skip empty lines
+            }
+            int numTokens = 0;
+            int i = from;
+            while (i < to) {
+                if (numTokens == 3) {
+                    error = new IllegalArgumentException("Invalid edge format: " + text(buffer, from, to));
+                    return;
+                }
+                tokens[2 * numTokens] = i;
+                while (i < to && !isWhitespace(buffer.get(i))) {
+                    i++;
+                }
+                tokens[2 * numTokens + 1] = i;
+                numTokens++;
+                while (i < to && isWhitespace(buffer.get(i))) {
+                    i++;
+                }
+            }
+            if (numTokens < 2) {
+                error = new IllegalArgumentException("Invalid edge format: " + text(buffer, from, to));
+                return;
+            }
+            try {
+                int source = parseInt(buffer, tokens[0], tokens[1]);
+                int dest = parseInt(buffer, tokens[2], tokens[3]);
+                double weight = (numTokens == 3) ? parseDouble(buffer, tokens[4], tokens[5]) : 1.0;
+                add(source, dest, weight);
+            } catch (NumberFormatException e) {
+                error = new IllegalArgumentException("Invalid number format in line: "
+                        + text(buffer, from, to), e);
+            }
+        }
+
+        private void add(int source, int dest, double weight) {
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, 2 * size);
+                dests = Arrays.copyOf(dests, 2 * size);
+                weights = Arrays.copyOf(weights, 2 * size);
+            }
+            sources[size] = source;
+            dests[size] = dest;
+            weights[size] = weight;
+            size++;
+        }
+
+        /** Parse a decimal int with an optional sign, like Integer.parseInt. */
+        private static int parseInt(ByteBuffer buffer, int from, int to) {
+            int i = from;
+            boolean negative = false;
+            byte first = buffer.get(i);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                i++;
+            }
+            if (i == to) {
+                throw invalid(buffer, from, to);
+            }
+            long value = 0;
+            for (; i < to; i++) {
+                int digit = buffer.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw invalid(buffer, from, to);
+                }
+                value = 10 * value + digit;
+                if (value > (long) Integer.MAX_VALUE + 1) {
+                    throw invalid(buffer, from, to);
+                }
+            }
+            value = negative ? -value : value;
+            if (value > Integer.MAX_VALUE) {
+                throw invalid(buffer, from, to);
+            }
+            return (int) value;
+        }
+
+        /** Parse a double. Plain decimals with at most 15 digits are
+         computed exactly from the digits, since both the digits and the
+         power of ten are exact doubles and one division is correctly
+         rounded; anything else is passed to Double.parseDouble.
+         */
+        private static double parseDouble(ByteBuffer buffer, int from, int to) {
+            int i = from;
+            boolean negative = false;
+            byte first = buffer.get(i);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                i++;
+            }
+            long mantissa = 0;
+            int numDigits = 0;
+            int fractionDigits = -1;
+            for (; i < to; i++) {
+                byte b = buffer.get(i);
+                if (b >= '0' && b <= '9') {
+                    mantissa = 10 * mantissa + (b - '0');
+                    numDigits++;
+                    if (fractionDigits >= 0) {
+                        fractionDigits++;
+                    }
+                } else if (b == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                } else {
+                    break;
+                }
+            }
+            if (i < to || numDigits == 0 || numDigits > 15) {
+                return Double.parseDouble(text(buffer, from, to));
+            }
+            double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+            return negative ? -value : value;
+        }
+
+        private static final double[] POWERS_OF_TEN = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+        };
+
+        private static NumberFormatException invalid(ByteBuffer buffer, int from, int to) {
+            return new NumberFormatException("For input string: \"" + text(buffer, from, to) + "\"");
+        }
+
+        private static String text(ByteBuffer buffer, int from, int to) {
+            byte[] bytes = new byte[to - from];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(from + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package datastructures.graph;
+
+/** Represents an operation that accepts the destination and the weight
+ of an edge as primitive values, so that the neighbors of a vertex can
+ be visited without allocating Edge objects.
+ */
+@FunctionalInterface
+public interface IntDoubleConsumer {
+    /** Perform this operation on an edge.
+     @param dest The destination vertex
+     @param weight The edge weight
+     */
+    void accept(int dest, double weight);
+}
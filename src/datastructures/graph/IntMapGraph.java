@@ -0,0 +1,201 @@
+package datastructures.graph;
+
+import java.util.*;
+
+/** An IntMapGraph is an extension of the AbstractGraph abstract class
+ with the behavior of MapGraph but without boxing. The edges of each
+ vertex are kept in dense destination and weight arrays, and a vertex
+ with more than LINEAR_LIMIT edges also gets an open‐addressing hash
+ table that maps a destination to its index in those arrays. isEdge and
+ getEdge therefore stay O(1), and an edge costs about 20 bytes instead of
+ the Integer key, map entry and Edge object of MapGraph.
+ */
+public class IntMapGraph extends AbstractGraph {
+    /** Up to this many edges a vertex is searched linearly */
+    private static final int LINEAR_LIMIT = 8;
+    /** The maximum fill ratio of a hash table */
+    private static final double LOAD_THRESHOLD = 0.75;
+    private static final int[] NO_DESTS = new int[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+
+    // Data Fields
+    /** The destinations of the edges of each vertex */
+    private final int[][] dests;
+    /** The weights of the edges of each vertex */
+    private final double[][] weights;
+    /** The number of edges of each vertex */
+    private final int[] degree;
+    /** The hash table of each vertex, or null; a slot holds the index of
+     an edge plus one, and 0 marks an empty slot */
+    private final int[][] tables;
+
+    /**
+     * Construct a graph with the specified number of vertices and directionality.
+     *
+     * @param numV     The number of vertices
+     * @param directed The directionality flag
+     */
+    public IntMapGraph(int numV, boolean directed) {
+        super(numV, directed);
+        dests = new int[numV][];
+        weights = new double[numV][];
+        degree = new int[numV];
+        tables = new int[numV][];
+        Arrays.fill(dests, NO_DESTS);
+        Arrays.fill(weights, NO_WEIGHTS);
+    }
+
+    /**
+     * Insert a new edge into the graph. As in a MapGraph, an existing
+     * edge between the same vertices gets the new weight.
+     *
+     * @param edge The new edge
+     */
+    public void insert(Edge edge) {
+        put(edge.getSource(), edge.getDest(), edge.getWeight());
+        if (!isDirected()) {
+            put(edge.getDest(), edge.getSource(), edge.getWeight());
+        }
+        modCount++;
+    }
+
+    /**
+     * Get the edge between two vertices.
+     *
+     * @param source The source
+     * @param dest   The destination
+     * @return the edge between these two vertices
+     * or null if an edge does not exist.
+     */
+    public Edge getEdge(int source, int dest) {
+        int index = indexOf(source, dest);
+        return index < 0 ? null : new Edge(source, dest, weights[source][index]);
+    }
+
+    /**
+     * Determine whether an edge exists.
+     *
+     * @param source The source vertex
+     * @param dest   The destination vertex
+     * @return true if there is an edge from source to dest
+     */
+    public boolean isEdge(int source, int dest) {
+        return indexOf(source, dest) >= 0;
+    }
+
+    public Iterator<Edge> edgeIterator(final int source) {
+        return new Iterator<Edge>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < degree[source];
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Edge edge = new Edge(source, dests[source][next], weights[source][next]);
+                next++;
+                return edge;
+            }
+        };
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        int[] row = dests[source];
+        double[] rowWeights = weights[source];
+        for (int i = 0; i < degree[source]; i++) {
+            action.accept(row[i], rowWeights[i]);
+        }
+    }
+
+    /** Find the index of an edge in the dense arrays of its source.
+     @param source The source vertex
+     @param dest The destination vertex
+     @return The index of the edge, or ‐1 if there is none
+     */
+    private int indexOf(int source, int dest) {
+        int[] row = dests[source];
+        int[] table = tables[source];
+        if (table == null) {
+            for (int i = 0; i < degree[source]; i++) {
+                if (row[i] == dest) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = table.length - 1;
+        // Probe linearly until the key or an empty slot is reached.
+        for (int slot = hash(dest) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            if (row[table[slot] - 1] == dest) {
+                return table[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private void put(int source, int dest, double weight) {
+        int index = indexOf(source, dest);
+        if (index >= 0) {
+            weights[source][index] = weight;
+            return;
+        }
+        int size = degree[source];
+        if (size == dests[source].length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            dests[source] = Arrays.copyOf(dests[source], capacity);
+            weights[source] = Arrays.copyOf(weights[source], capacity);
+        }
+        dests[source][size] = dest;
+        weights[source][size] = weight;
+        degree[source] = size + 1;
+        int[] table = tables[source];
+        if (table == null) {
+            if (size + 1 > LINEAR_LIMIT) {
+                rehash(source, size + 1);
+            }
+        } else if (size + 1 > table.length * LOAD_THRESHOLD) {
+            rehash(source, size + 1);
+        } else {
+            place(table, dest, size);
+        }
+    }
+
+    /** Build a new hash table for a vertex, with the smallest power of
+     two capacity that stays below the load threshold.
+     @param source The vertex
+     @param size The number of edges of the vertex
+     */
+    private void rehash(int source, int size) {
+        int capacity = Integer.highestOneBit(size) << 1;
+        if (size > capacity * LOAD_THRESHOLD) {
+            capacity <<= 1;
+        }
+        int[] table = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            place(table, dests[source][i], i);
+        }
+        tables[source] = table;
+    }
+
+    private static void place(int[] table, int dest, int index) {
+        int mask = table.length - 1;
+        int slot = hash(dest) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    /** Spread the bits of a vertex number so that consecutive vertices
+     do not fill consecutive slots. */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
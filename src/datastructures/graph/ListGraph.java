@@ -3,7 +3,8 @@ package datastructures.graph;
 import java.util.*;
 
 /** A ListGraph is an extension of the AbstractGraph abstract class
- that uses an array of lists to represent the edges.
+ that uses an array of lists to represent the edges. The lists are
+ array based so that the edges can be visited by index.
  */
 public class ListGraph extends AbstractGraph {
     // Data Field
@@ -23,7 +24,7 @@ public class ListGraph extends AbstractGraph {
         super(numV, directed);
         edges = new List[numV];
         for (int i = 0; i < numV; i++) {
-            edges[i] = new LinkedList<Edge>();
+            edges[i] = new ArrayList<Edge>();
         }
     }
 
@@ -38,6 +39,7 @@ public class ListGraph extends AbstractGraph {
             edges[edge.getDest()].add(new Edge(edge.getDest(), edge.getSource(),
                     edge.getWeight()));
         }
+        modCount++;
     }
 
     /**
@@ -70,7 +72,16 @@ public class ListGraph extends AbstractGraph {
     }
 
     public Iterator<Edge> edgeIterator(int source) {
-        return edges[source].iterator();
+        return countRemovals(edges[source].iterator());
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        List<Edge> list = edges[source];
+        for (int i = 0; i < list.size(); i++) {
+            Edge edge = list.get(i);
+            action.accept(edge.getDest(), edge.getWeight());
+        }
     }
 
 }
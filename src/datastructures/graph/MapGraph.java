@@ -41,6 +41,7 @@ public class MapGraph extends AbstractGraph {
             Edge reverseEdge = new Edge(dest, source, weight);
             outgoingEdges[dest].put(source, reverseEdge);
         }
+        modCount++;
     }
 
     /**
@@ -67,7 +68,12 @@ public class MapGraph extends AbstractGraph {
     }
 
     public Iterator<Edge> edgeIterator(int source) {
-        return outgoingEdges[source].values().iterator();
+        return countRemovals(outgoingEdges[source].values().iterator());
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        outgoingEdges[source].forEach((dest, edge) -> action.accept(dest, edge.getWeight()));
     }
 
 }
@@ -0,0 +1,158 @@
+package datastructures.graph;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/** A MappedCsrGraph is an immutable graph in compressed sparse row form
+ whose arrays are memory‐mapped from a file written by BinaryGraphFormat.
+ The edges are read from the mapped pages on demand and are never copied
+ onto the heap. It offers the same edge position accessors as CsrGraph.
+ */
+public class MappedCsrGraph extends AbstractGraph {
+    /** The number of array elements per mapped segment */
+    static final int SEGMENT_SIZE = 1 << 27;
+    private static final int SEGMENT_SHIFT = 27;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    // Data Fields
+    /** The segments of the offsets array */
+    private final ByteBuffer[] offsets;
+    /** The segments of the targets array */
+    private final ByteBuffer[] targets;
+    /** The segments of the weights array */
+    private final ByteBuffer[] weights;
+    /** The number of stored edges */
+    private final int numEdges;
+
+    MappedCsrGraph(int numV, boolean directed, ByteBuffer[] offsets,
+                   ByteBuffer[] targets, ByteBuffer[] weights) {
+        super(numV, directed);
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.numEdges = intAt(offsets, numV);
+    }
+
+    /**
+     * A MappedCsrGraph cannot be modified.
+     *
+     * @param edge The new edge
+     * @throws UnsupportedOperationException always
+     */
+    public void insert(Edge edge) {
+        throw new UnsupportedOperationException("MappedCsrGraph is immutable");
+    }
+
+    /**
+     * Determine whether an edge exists.
+     *
+     * @param source The source vertex
+     * @param dest   The destination vertex
+     * @return true if there is an edge from source to dest
+     */
+    public boolean isEdge(int source, int dest) {
+        return indexOf(source, dest) >= 0;
+    }
+
+    /**
+     * Get the edge between two vertices.
+     *
+     * @param source The source
+     * @param dest   The destination
+     * @return the edge between these two vertices
+     * or null if an edge does not exist.
+     */
+    public Edge getEdge(int source, int dest) {
+        int index = indexOf(source, dest);
+        return index < 0 ? null : new Edge(source, dest, getWeight(index));
+    }
+
+    public Iterator<Edge> edgeIterator(final int source) {
+        return new Iterator<Edge>() {
+            private int next = edgeStart(source);
+            private final int end = edgeEnd(source);
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Edge edge = new Edge(source, getTarget(next), getWeight(next));
+                next++;
+                return edge;
+            }
+        };
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        int end = edgeEnd(source);
+        for (int i = edgeStart(source); i < end; i++) {
+            action.accept(getTarget(i), getWeight(i));
+        }
+    }
+
+    /** @return The number of stored edges */
+    public int getNumEdges() {
+        return numEdges;
+    }
+
+    /** @param source The source vertex
+     @return The out-degree of source */
+    public int getDegree(int source) {
+        return edgeEnd(source) - edgeStart(source);
+    }
+
+    /** @param source The source vertex
+     @return The index of the first edge that originates with source */
+    public int edgeStart(int source) {
+        return intAt(offsets, source);
+    }
+
+    /** @param source The source vertex
+     @return One more than the index of the last edge of source */
+    public int edgeEnd(int source) {
+        return intAt(offsets, source + 1);
+    }
+
+    /** @param index The edge position
+     @return The destination vertex */
+    public int getTarget(int index) {
+        return intAt(targets, index);
+    }
+
+    /** @param index The edge position
+     @return The edge weight */
+    public double getWeight(int index) {
+        return weights[index >>> SEGMENT_SHIFT].getDouble((index & SEGMENT_MASK) << 3);
+    }
+
+    private static int intAt(ByteBuffer[] segments, int index) {
+        return segments[index >>> SEGMENT_SHIFT].getInt((index & SEGMENT_MASK) << 2);
+    }
+
+    /** Binary search the sorted edges of source for dest.
+     @return The position of the edge or ‐1 if there is none
+     */
+    private int indexOf(int source, int dest) {
+        int low = edgeStart(source);
+        int high = edgeEnd(source) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int target = getTarget(middle);
+            if (target < dest) {
+                low = middle + 1;
+            } else if (target > dest) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,50 +1,243 @@
 package datastructures.graph;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.NoSuchElementException;
 
+/** A MatrixGraph is an extension of the AbstractGraph abstract class
+ that uses an adjacency matrix to represent the edges. Every row keeps a
+ bitset of the columns that hold an edge, so the edges of a vertex are
+ found with Long.numberOfTrailingZeros instead of checking every column.
+ The weights are kept according to the chosen Storage, and heap rows are
+ only allocated when their first edge is inserted.
+ */
 public class MatrixGraph extends AbstractGraph{
 
-    private double[][] edges;
+    /** How the cells of the matrix are stored. */
+    public enum Storage {
+        /** A double weight per cell, in rows on the heap */
+        DOUBLE,
+        /** A float weight per cell, in rows on the heap; half the
+         memory of DOUBLE at float precision */
+        FLOAT,
+        /** Only the bitset, for unweighted graphs; every edge has
+         weight 1.0 */
+        BITSET,
+        /** A double weight per cell in direct buffers outside the heap,
+         each holding a contiguous block of rows */
+        OFF_HEAP
+    }
+
+    /** The largest direct buffer allocated for OFF_HEAP storage */
+    private static final int MAX_BLOCK_BYTES = 1 << 30;
 
+    // Data Fields
+    /** The storage mode */
+    private final Storage storage;
+    /** The columns that hold an edge, per row; null for an empty row */
+    private final long[][] present;
+    /** The weights for DOUBLE storage */
+    private double[][] doubleRows;
+    /** The weights for FLOAT storage */
+    private float[][] floatRows;
+    /** The weights for OFF_HEAP storage, rowsPerBlock rows per buffer */
+    private ByteBuffer[] blocks;
+    /** The number of rows in each OFF_HEAP block */
+    private int rowsPerBlock;
+
+    /**
+     * Construct a graph with double weights.
+     *
+     * @param numV       The number of vertices
+     * @param isDirected The directionality flag
+     */
     public MatrixGraph(int numV, boolean isDirected) {
+        this(numV, isDirected, Storage.DOUBLE);
+    }
+
+    /**
+     * Construct a graph with the specified storage mode.
+     *
+     * @param numV       The number of vertices
+     * @param isDirected The directionality flag
+     * @param storage    The storage mode
+     */
+    public MatrixGraph(int numV, boolean isDirected, Storage storage) {
         super(numV, isDirected);
-        edges = new double[numV][numV];
-        for (int i = 0; i < numV; i++) {
-            for (int j = 0; j < numV; j++) {
-                edges[i][j] = Double.POSITIVE_INFINITY;
-            }
+        this.storage = storage;
+        present = new long[numV][];
+        switch (storage) {
+            case DOUBLE:
+                doubleRows = new double[numV][];
+                break;
+            case FLOAT:
+                floatRows = new float[numV][];
+                break;
+            case OFF_HEAP:
+                rowsPerBlock = Math.max(1, MAX_BLOCK_BYTES / (8 * Math.max(1, numV)));
+                blocks = new ByteBuffer[(numV + rowsPerBlock - 1) / rowsPerBlock];
+                break;
+            default:
+                break;
         }
     }
 
+    /**
+     * Return the storage mode.
+     *
+     * @return The storage mode
+     */
+    public Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Insert a new edge into the graph. An edge whose weight is infinite
+     * removes any edge between its vertices.
+     *
+     * @param edge The new edge
+     * @throws IllegalArgumentException if the storage is BITSET and the
+     *                                  weight is neither 1.0 nor infinite
+     */
     @Override
     public void insert(Edge edge) {
-        edges[edge.getSource()][edge.getDest()] = edge.getWeight();
+        double weight = edge.getWeight();
+        if (storage == Storage.BITSET && weight != 1.0 && weight != Double.POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("Bitset storage only holds unweighted edges: " + edge);
+        }
+        set(edge.getSource(), edge.getDest(), weight);
         if(!isDirected()){
-            edges[edge.getDest()][edge.getSource()] = edge.getWeight();
+            set(edge.getDest(), edge.getSource(), weight);
         }
+        modCount++;
     }
 
     @Override
     public boolean isEdge(int source, int dest) {
-        return edges[source][dest] != Double.POSITIVE_INFINITY;
+        long[] row = present[source];
+        return row != null && (row[dest >>> 6] & (1L << dest)) != 0;
     }
 
     @Override
     public Edge getEdge(int source, int dest) {
-        return edges[source][dest] == Double.POSITIVE_INFINITY ? null : new Edge(source, dest, edges[source][dest]);
+        return isEdge(source, dest) ? new Edge(source, dest, weight(source, dest)) : null;
+    }
+
+    /**
+     * Return the weight of the edge between two vertices.
+     *
+     * @param source The source vertex
+     * @param dest   The destination vertex
+     * @return The weight, or Double.POSITIVE_INFINITY if there is no edge
+     */
+    public double getWeight(int source, int dest) {
+        return isEdge(source, dest) ? weight(source, dest) : Double.POSITIVE_INFINITY;
     }
 
     @Override
     public Iterator<Edge> edgeIterator(int source) {
-        List<Edge> edges = new LinkedList<>();
-        for(int i = 0; i < this.getNumV(); i++){
-            if(this.edges[source][i] != Double.POSITIVE_INFINITY){
-                edges.add(getEdge(source, i));
+        final long[] row = present[source];
+        return new Iterator<Edge>() {
+            private int word = -1;
+            private long bits = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (bits == 0 && row != null && word + 1 < row.length) {
+                    bits = row[++word];
+                }
+                return bits != 0;
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int dest = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                return new Edge(source, dest, weight(source, dest));
+            }
+        };
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        long[] row = present[source];
+        if (row == null) {
+            return;
+        }
+        for (int word = 0; word < row.length; word++) {
+            long bits = row[word];
+            while (bits != 0) {
+                int dest = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                action.accept(dest, weight(source, dest));
+            }
+        }
+    }
+
+    /** Store the weight of a cell, or clear the cell if the weight is
+     infinite. Rows are allocated on first use.
+     @param source The row
+     @param dest The column
+     @param weight The weight
+     */
+    private void set(int source, int dest, double weight) {
+        if (weight == Double.POSITIVE_INFINITY) {
+            if (present[source] != null) {
+                present[source][dest >>> 6] &= ~(1L << dest);
             }
+            return;
         }
-        return edges.iterator();
+        int numV = getNumV();
+        if (present[source] == null) {
+            present[source] = new long[(numV + 63) >>> 6];
+        }
+        present[source][dest >>> 6] |= 1L << dest;
+        switch (storage) {
+            case DOUBLE:
+                if (doubleRows[source] == null) {
+                    doubleRows[source] = new double[numV];
+                }
+                doubleRows[source][dest] = weight;
+                break;
+            case FLOAT:
+                if (floatRows[source] == null) {
+                    floatRows[source] = new float[numV];
+                }
+                floatRows[source][dest] = (float) weight;
+                break;
+            case OFF_HEAP:
+                int block = source / rowsPerBlock;
+                if (blocks[block] == null) {
+                    int rows = Math.min(rowsPerBlock, numV - block * rowsPerBlock);
+                    blocks[block] = ByteBuffer.allocateDirect(rows * numV * 8)
+                            .order(ByteOrder.nativeOrder());
+                }
+                blocks[block].putDouble(cellOffset(source, dest), weight);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Return the stored weight of a cell that holds an edge. */
+    private double weight(int source, int dest) {
+        switch (storage) {
+            case DOUBLE:
+                return doubleRows[source][dest];
+            case FLOAT:
+                return floatRows[source][dest];
+            case OFF_HEAP:
+                return blocks[source / rowsPerBlock].getDouble(cellOffset(source, dest));
+            default:
+                return 1.0;
+        }
+    }
+
+    private int cellOffset(int source, int dest) {
+        return ((source % rowsPerBlock) * getNumV() + dest) * 8;
     }
 }
@@ -0,0 +1,352 @@
+package datastructures.graph;
+
+import java.util.*;
+
+/** A SortedListGraph is an extension of the AbstractGraph abstract class
+ that keeps the edges of each vertex in primitive arrays sorted by
+ destination, so isEdge and getEdge are binary searches that take
+ O(log d) time for a vertex of degree d. Sorted neighborhoods also allow
+ fast intersection, as needed for triangle counting and Jaccard
+ similarity. Like a ListGraph it keeps repeated edges.
+
+ Edges inserted during a bulk load are appended and sorted once when the
+ load finishes; afterwards each insert goes straight to its sorted
+ position. loadEdgesFromFile performs a bulk load automatically.
+ */
+public class SortedListGraph extends AbstractGraph {
+    private static final int[] NO_DESTS = new int[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+
+    // Data Fields
+    /** The destinations of the edges of each vertex */
+    private final int[][] dests;
+    /** The weights of the edges of each vertex */
+    private final double[][] weights;
+    /** The number of edges of each vertex */
+    private final int[] degree;
+    /** Whether edges are currently appended unsorted */
+    private boolean bulkLoading;
+
+    /**
+     * Construct a graph with the specified number of vertices and directionality.
+     *
+     * @param numV     The number of vertices
+     * @param directed The directionality flag
+     */
+    public SortedListGraph(int numV, boolean directed) {
+        super(numV, directed);
+        dests = new int[numV][];
+        weights = new double[numV][];
+        degree = new int[numV];
+        Arrays.fill(dests, NO_DESTS);
+        Arrays.fill(weights, NO_WEIGHTS);
+    }
+
+    /**
+     * Start a bulk load. Until finishBulkLoad is called, or until the
+     * edges are first read, inserted edges are appended without sorting.
+     */
+    public void startBulkLoad() {
+        bulkLoading = true;
+    }
+
+    /**
+     * Finish a bulk load by sorting the edges of every vertex.
+     */
+    public void finishBulkLoad() {
+        if (!bulkLoading) {
+            return;
+        }
+        bulkLoading = false;
+        for (int v = 0; v < getNumV(); v++) {
+            sortRow(v);
+        }
+    }
+
+    /**
+     * Load the edges of a graph from an input file as a bulk load.
+     *
+     * @param scan The Scanner connected to the data file
+     */
+    @Override
+    public void loadEdgesFromFile(Scanner scan) {
+        startBulkLoad();
+        try {
+            super.loadEdgesFromFile(scan);
+        } finally {
+            finishBulkLoad();
+        }
+    }
+
+    /**
+     * Insert a new edge into the graph.
+     *
+     * @param edge The new edge
+     */
+    public void insert(Edge edge) {
+        add(edge.getSource(), edge.getDest(), edge.getWeight());
+        if (!isDirected()) {
+            add(edge.getDest(), edge.getSource(), edge.getWeight());
+        }
+        modCount++;
+    }
+
+    /**
+     * Get the edge between two vertices.
+     *
+     * @param source The source
+     * @param dest   The destination
+     * @return the edge between these two vertices
+     * or null if an edge does not exist.
+     */
+    public Edge getEdge(int source, int dest) {
+        finishBulkLoad();
+        int index = lowerBound(dests[source], 0, degree[source], dest);
+        if (index < degree[source] && dests[source][index] == dest) {
+            return new Edge(source, dest, weights[source][index]);
+        }
+        return null;
+    }
+
+    /**
+     * Determine whether an edge exists.
+     *
+     * @param source The source vertex
+     * @param dest   The destination vertex
+     * @return true if there is an edge from source to dest
+     */
+    public boolean isEdge(int source, int dest) {
+        finishBulkLoad();
+        int index = lowerBound(dests[source], 0, degree[source], dest);
+        return index < degree[source] && dests[source][index] == dest;
+    }
+
+    /**
+     * Determine for each of a sorted batch of destinations whether an
+     * edge to it exists. Each lookup gallops forward from the previous
+     * one, so a batch of k lookups costs O(k log(d / k)) instead of
+     * O(k log d).
+     *
+     * @param source The source vertex
+     * @param sortedDests The destinations in ascending order
+     * @return An array whose element i is true if there is an edge from
+     * source to sortedDests[i]
+     */
+    public boolean[] areEdges(int source, int[] sortedDests) {
+        finishBulkLoad();
+        boolean[] result = new boolean[sortedDests.length];
+        int[] row = dests[source];
+        int position = 0;
+        for (int i = 0; i < sortedDests.length; i++) {
+            position = gallop(row, position, degree[source], sortedDests[i]);
+            result[i] = position < degree[source] && row[position] == sortedDests[i];
+        }
+        return result;
+    }
+
+    public Iterator<Edge> edgeIterator(final int source) {
+        finishBulkLoad();
+        return new Iterator<Edge>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < degree[source];
+            }
+
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Edge edge = new Edge(source, dests[source][next], weights[source][next]);
+                next++;
+                return edge;
+            }
+        };
+    }
+
+    @Override
+    public void forEachNeighbor(int source, IntDoubleConsumer action) {
+        finishBulkLoad();
+        int[] row = dests[source];
+        double[] rowWeights = weights[source];
+        for (int i = 0; i < degree[source]; i++) {
+            action.accept(row[i], rowWeights[i]);
+        }
+    }
+
+    /**
+     * Return the number of edges that originate with a vertex.
+     *
+     * @param source The source vertex
+     * @return The out-degree of source
+     */
+    public int getDegree(int source) {
+        return degree[source];
+    }
+
+    /**
+     * Count the destinations shared by two vertices.
+     *
+     * @param u A vertex
+     * @param v Another vertex
+     * @return The size of the intersection of their neighborhoods
+     */
+    public int intersectionSize(int u, int v) {
+        return intersect(u, v, null);
+    }
+
+    /**
+     * Find the destinations shared by two vertices. When one neighborhood
+     * is much smaller, its elements are galloped through the larger one;
+     * otherwise both are merged in one linear pass.
+     *
+     * @param u   A vertex
+     * @param v   Another vertex
+     * @param out Receives the common destinations in ascending order, or
+     *            null if only the count is needed; it must have room for
+     *            the smaller degree
+     * @return The number of common destinations
+     */
+    public int intersect(int u, int v, int[] out) {
+        finishBulkLoad();
+        int[] a = dests[u];
+        int[] b = dests[v];
+        int sizeA = degree[u];
+        int sizeB = degree[v];
+        if (sizeA > sizeB) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+            int swapSize = sizeA;
+            sizeA = sizeB;
+            sizeB = swapSize;
+        }
+        int count = 0;
+        if (sizeA * 32 < sizeB) {
+            int j = 0;
+            for (int i = 0; i < sizeA && j < sizeB; i++) {
+                j = gallop(b, j, sizeB, a[i]);
+                if (j < sizeB && b[j] == a[i]) {
+                    if (out != null) {
+                        out[count] = a[i];
+                    }
+                    count++;
+                    j++;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < sizeA && j < sizeB) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    if (out != null) {
+                        out[count] = a[i];
+                    }
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Add an edge to the arrays of its source, in sorted position
+     unless a bulk load is in progress.
+     @param source The source vertex
+     @param dest The destination vertex
+     @param weight The edge weight
+     */
+    private void add(int source, int dest, double weight) {
+        int size = degree[source];
+        if (size == dests[source].length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            dests[source] = Arrays.copyOf(dests[source], capacity);
+            weights[source] = Arrays.copyOf(weights[source], capacity);
+        }
+        int index = size;
+        if (!bulkLoading) {
+            // Insert after any equal destinations, as a list would append.
+            index = lowerBound(dests[source], 0, size, dest + 1);
+            System.arraycopy(dests[source], index, dests[source], index + 1, size - index);
+            System.arraycopy(weights[source], index, weights[source], index + 1, size - index);
+        }
+        dests[source][index] = dest;
+        weights[source][index] = weight;
+        degree[source] = size + 1;
+    }
+
+    /** Sort the edges of a vertex by destination, keeping equal
+     destinations in insertion order.
+     @param source The vertex
+     */
+    private void sortRow(int source) {
+        int size = degree[source];
+        int[] row = dests[source];
+        boolean sorted = true;
+        for (int i = 1; i < size && sorted; i++) {
+            sorted = row[i - 1] <= row[i];
+        }
+        if (sorted) {
+            return;
+        }
+        // Sort (destination, original index) pairs packed into longs.
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) row[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        double[] oldWeights = weights[source];
+        int[] newDests = new int[row.length];
+        double[] newWeights = new double[row.length];
+        for (int i = 0; i < size; i++) {
+            newDests[i] = (int) (keys[i] >>> 32);
+            newWeights[i] = oldWeights[(int) keys[i]];
+        }
+        dests[source] = newDests;
+        weights[source] = newWeights;
+    }
+
+    /** Binary search for the first position whose value is at least key.
+     @param a The sorted array
+     @param from The first position
+     @param to One past the last position
+     @param key The key
+     @return The first position in [from, to) whose value is at least
+     key, or to if there is none
+     */
+    private static int lowerBound(int[] a, int from, int to, int key) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (a[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** Like lowerBound, but first doubles the step from position from
+     until it passes key, which is faster when the answer is near from.
+     */
+    private static int gallop(int[] a, int from, int to, int key) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < to && a[high] < key) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        return lowerBound(a, low, Math.min(high, to), key);
+    }
+}
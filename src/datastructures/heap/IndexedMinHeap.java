@@ -0,0 +1,192 @@
+package datastructures.heap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** An IndexedMinHeap is a binary min‐heap of the integers 0 through
+ capacity ‐ 1, each ordered by a double key. Because the position of
+ every element in the heap is tracked, the key of an element can be
+ decreased in O(log n) time without inserting a duplicate entry.
+ */
+public class IndexedMinHeap {
+    // Data Fields
+    /** The elements in heap order */
+    private final int[] heap;
+    /** The index of each element in heap, or ‐1 if it is not in the heap */
+    private final int[] position;
+    /** The key of each element */
+    private final double[] keys;
+    /** The number of elements in the heap */
+    private int size;
+
+    /** Creates an empty heap for the elements 0 through capacity ‐ 1.
+     @param capacity The number of distinct elements
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    /** Insert an element.
+     @param element The element to be inserted
+     @param key The key of the element
+     @throws IllegalArgumentException if the element is already in the heap
+     */
+    public void add(int element, double key) {
+        if (contains(element)) {
+            throw new IllegalArgumentException("Element already in heap: " + element);
+        }
+        keys[element] = key;
+        heap[size] = element;
+        position[element] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /** Decrease the key of an element in the heap.
+     @param element The element
+     @param key The new key
+     @throws IllegalArgumentException if the element is not in the heap
+     or key is greater than its current key
+     */
+    public void decreaseKey(int element, double key) {
+        if (!contains(element)) {
+            throw new IllegalArgumentException("Element not in heap: " + element);
+        }
+        if (key > keys[element]) {
+            throw new IllegalArgumentException("Key is greater than current key: " + key);
+        }
+        keys[element] = key;
+        siftUp(position[element]);
+    }
+
+    /** Insert an element, or decrease its key if it is already in the
+     heap and the new key is smaller.
+     @param element The element
+     @param key The key of the element
+     @return true if the heap was changed
+     */
+    public boolean addOrDecreaseKey(int element, double key) {
+        if (!contains(element)) {
+            add(element, key);
+            return true;
+        }
+        if (key < keys[element]) {
+            keys[element] = key;
+            siftUp(position[element]);
+            return true;
+        }
+        return false;
+    }
+
+    /** Remove the element with the smallest key.
+     @return The element with the smallest key
+     @throws NoSuchElementException if the heap is empty
+     */
+    public int remove() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int result = heap[0];
+        position[result] = -1;
+        size--;
+        if (size > 0) {
+            // Move the last leaf to the root and bubble it down.
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return result;
+    }
+
+    /** Return the element with the smallest key without removing it.
+     @return The element with the smallest key
+     @throws NoSuchElementException if the heap is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /** Return the current or last key of an element.
+     @param element The element
+     @return The key most recently assigned to element
+     */
+    public double getKey(int element) {
+        return keys[element];
+    }
+
+    /** Determine whether an element is in the heap.
+     @param element The element
+     @return true if element is in the heap
+     */
+    public boolean contains(int element) {
+        return position[element] >= 0;
+    }
+
+    /** Remove all elements in time proportional to the current size. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Move the element at index up until its parent's key is not larger.
+     @param index The index of the element in heap
+     */
+    private void siftUp(int index) {
+        int element = heap[index];
+        double key = keys[element];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(element, index);
+    }
+
+    /** Move the element at index down until no child has a smaller key.
+     @param index The index of the element in heap
+     */
+    private void siftDown(int index) {
+        int element = heap[index];
+        double key = keys[element];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            // Pick the smaller child.
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (keys[heap[child]] >= key) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(element, index);
+    }
+
+    private void place(int element, int index) {
+        heap[index] = element;
+        position[element] = index;
+    }
+}
@@ -0,0 +1,89 @@
+package datastructures.list;
+
+import java.util.Arrays;
+
+/** A growable array of primitive ints. It is used where an
+ ArrayList<Integer> would box every element.
+ */
+public class IntArrayList {
+
+    // Data Fields
+    /** The default initial capacity */
+    private static final int INITIAL_CAPACITY = 10;
+    /** The underlying data array */
+    private int[] data;
+    /** The current size */
+    private int size = 0;
+
+    public IntArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public IntArrayList(int capacity) {
+        data = new int[Math.max(1, capacity)];
+    }
+
+    public void add(int value) {
+        if (size == data.length) {
+            reallocate(size + 1);
+        }
+        data[size] = value;
+        size++;
+    }
+
+    /** Append all the elements of another list.
+     @param other The list whose elements are appended
+     */
+    public void addAll(IntArrayList other) {
+        if (size + other.size > data.length) {
+            reallocate(size + other.size);
+        }
+        System.arraycopy(other.data, 0, data, size, other.size);
+        size += other.size;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return data[index];
+    }
+
+    /** Remove and return the last element, so that the list can be
+     used as a stack.
+     @return The last element
+     @throws ArrayIndexOutOfBoundsException if the list is empty
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new ArrayIndexOutOfBoundsException(-1);
+        }
+        return data[--size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /** Return a copy of the elements.
+     @return An array of length size with the elements in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /** Double the capacity, or more if minCapacity requires it.
+     @param minCapacity The smallest acceptable capacity
+     */
+    private void reallocate(int minCapacity) {
+        data = Arrays.copyOf(data, Math.max(minCapacity, 2 * data.length));
+    }
+}
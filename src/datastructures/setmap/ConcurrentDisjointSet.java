@@ -0,0 +1,93 @@
+package datastructures.setmap;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A lock‐free disjoint‐set (union‐find) structure over the integers 0
+ through size ‐ 1 that many threads may update at once. Every parent
+ has a smaller index than its child, so the root of a set is its
+ smallest element. union links the larger of two roots under the
+ smaller with a compare‐and‐set, retrying if another thread linked
+ either root first, and find halves the path it follows with
+ compare‐and‐sets that only ever move a parent closer to the root.
+ */
+public class ConcurrentDisjointSet {
+    // Data Fields
+    /** The parent of each element; a root is its own parent */
+    private final AtomicIntegerArray parent;
+    /** The number of successful unions */
+    private final LongAdder unions = new LongAdder();
+
+    /** Creates a structure in which every element is in its own set.
+     @param size The number of elements
+     */
+    public ConcurrentDisjointSet(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    /** Find the representative of the set containing an element.
+     @post Every other element on the path to the root points to its
+     former grandparent.
+     @param x The element
+     @return The root of the set containing x, its smallest element at
+     the time of the call
+     */
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                // Losing this race is harmless: someone else moved x up.
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+
+    /** Merge the sets containing two elements.
+     @param x An element
+     @param y Another element
+     @return true if this call merged two different sets
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return false;
+            }
+            int low = Math.min(x, y);
+            int high = Math.max(x, y);
+            if (parent.compareAndSet(high, high, low)) {
+                unions.increment();
+                return true;
+            }
+        }
+    }
+
+    /** Determine whether two elements are in the same set. The answer is
+     only reliable while no union is running.
+     @param x An element
+     @param y Another element
+     @return true if x and y are in the same set
+     */
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /** @return The number of disjoint sets once all unions have finished */
+    public int getNumSets() {
+        return (int) (parent.length() - unions.sum());
+    }
+
+    /** @return The number of elements */
+    public int size() {
+        return parent.length();
+    }
+}
@@ -0,0 +1,89 @@
+package datastructures.setmap;
+
+/** A disjoint‐set (union‐find) structure over the integers 0 through
+ size ‐ 1, stored in primitive arrays. find compresses the path it
+ follows and union links the root of lower rank under the other, so a
+ sequence of operations runs in nearly constant amortized time each.
+ */
+public class DisjointSet {
+    // Data Fields
+    /** The parent of each element; a root is its own parent */
+    private final int[] parent;
+    /** An upper bound on the height of each root's tree */
+    private final byte[] rank;
+    /** The number of disjoint sets */
+    private int numSets;
+
+    /** Creates a structure in which every element is in its own set.
+     @param size The number of elements
+     */
+    public DisjointSet(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        numSets = size;
+    }
+
+    /** Find the representative of the set containing an element.
+     @post Every element on the path to the root points to the root.
+     @param x The element
+     @return The root of the set containing x
+     */
+    public int find(int x) {
+        int root = x;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Compress the path.
+        while (parent[x] != root) {
+            int next = parent[x];
+            parent[x] = root;
+            x = next;
+        }
+        return root;
+    }
+
+    /** Merge the sets containing two elements.
+     @param x An element
+     @param y Another element
+     @return true if x and y were in different sets
+     */
+    public boolean union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+        if (rootX == rootY) {
+            return false;
+        }
+        if (rank[rootX] < rank[rootY]) {
+            parent[rootX] = rootY;
+        } else if (rank[rootX] > rank[rootY]) {
+            parent[rootY] = rootX;
+        } else {
+            parent[rootY] = rootX;
+            rank[rootX]++;
+        }
+        numSets--;
+        return true;
+    }
+
+    /** Determine whether two elements are in the same set.
+     @param x An element
+     @param y Another element
+     @return true if x and y are in the same set
+     */
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /** @return The number of disjoint sets */
+    public int getNumSets() {
+        return numSets;
+    }
+
+    /** @return The number of elements */
+    public int size() {
+        return parent.length;
+    }
+}